@@ -0,0 +1,278 @@
+/*
+	AttackTables.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	AttackTables.java holds the precomputed attack sets used to generate moves on a BitBoard. The tables are built
+	once when the class is loaded and are shared by every GameTree, so looking up the Tiles a piece attacks costs a
+	few array reads rather than walking the board.
+
+	Knights, Kings and Pawns have fixed attack sets per Tile, so their tables are indexed by Tile alone. Pawns also get
+	a table of the Tile one step forward, which the Pawn generator masks with the empty Tiles.
+
+	Rook and Bishop attacks use magic bitboards. For each Tile the occupied Tiles along the piece's rays (excluding the
+	board edge, which never blocks anything beyond it) are multiplied by a magic number and shifted, giving a perfect
+	index into a table of attack sets for that Tile. The magic numbers were found by a seeded random search over sparse
+	64 bit numbers and are listed below, since repeating the search on every start takes the better part of a second.
+
+	Data members:
+		ROOK_MASKS, BISHOP_MASKS - long[]		- Relevant blocker Tiles for each Tile.
+		ROOK_MAGICS, BISHOP_MAGICS - long[]		- Magic multiplier for each Tile.
+		ROOK_SHIFTS, BISHOP_SHIFTS - int[]		- Right shift applied to the product for each Tile.
+		ROOK_TABLE, BISHOP_TABLE - long[][]		- Attack sets for each Tile indexed by the magic product.
+		KNIGHT_ATTACKS, KING_ATTACKS - long[]	- Attack sets of a Knight or King on each Tile.
+		PAWN_ATTACKS - long[][]					- Diagonal capture Tiles of a Pawn on each Tile, indexed by color then Tile.
+		PAWN_PUSHES - long[][]					- Tile one step forward of a Pawn on each Tile, indexed by color then Tile.
+		BETWEEN - long[][]						- Tiles strictly between two Tiles on a shared rank, file or diagonal, 0 otherwise.
+		LINE - long[][]							- The whole rank, file or diagonal through two Tiles, 0 if they share none.
+*/
+
+
+public class AttackTables {
+
+	private static final int[][] ROOK_DIRS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	private static final int[][] BISHOP_DIRS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+	private static final long[] ROOK_MASKS = new long[64];
+	private static final long[] BISHOP_MASKS = new long[64];
+	private static final int[] ROOK_SHIFTS = new int[64];
+	private static final int[] BISHOP_SHIFTS = new int[64];
+	private static final long[][] ROOK_TABLE = new long[64][];
+	private static final long[][] BISHOP_TABLE = new long[64][];
+	private static final long[] KNIGHT_ATTACKS = new long[64];
+	private static final long[] KING_ATTACKS = new long[64];
+	private static final long[][] PAWN_ATTACKS = new long[2][64];
+	private static final long[][] PAWN_PUSHES = new long[2][64];
+	private static final long[][] BETWEEN = new long[64][64];
+	private static final long[][] LINE = new long[64][64];
+
+	private static final long[] ROOK_MAGICS = {
+		0x0080068051E04000L, 0x0040001000402000L, 0x0080100020008008L, 0x4E000A0010208440L,
+		0x4200040802002010L, 0x0100010008020400L, 0x9080608019000600L, 0x8100020080204100L,
+		0x4103800480400020L, 0x8015004004802100L, 0x000200108A002040L, 0x0801000821001000L,
+		0x0015000500080070L, 0x0120800400800200L, 0x0109000432001100L, 0x020080055B000080L,
+		0x0080004000402002L, 0x5260848020004008L, 0x2402020014402080L, 0x3000808010000802L,
+		0x0304018004810800L, 0x0000808004000200L, 0x0002040001500248L, 0x0012020000408401L,
+		0x8440008080004020L, 0x0804200840100040L, 0x0820008080201000L, 0x2080100100082100L,
+		0x0800080180240080L, 0x00A1000900028400L, 0x0100100400C80102L, 0x000001120000A044L,
+		0x800080C004800620L, 0x4040081000202000L, 0x0D08802008801000L, 0x1000800800801004L,
+		0x0000800400800803L, 0x000A000400800280L, 0x0400101104003882L, 0x1222040082002041L,
+		0x6041C00081A48000L, 0x8020802201060040L, 0x4000200100410018L, 0x0010000904110020L,
+		0x8000040008008080L, 0x0A00201004080140L, 0x0000040200010100L, 0x0220007081020004L,
+		0x840205C981002A00L, 0x00802100804A0600L, 0x0002081040802200L, 0x0240230010000900L,
+		0x0044800800240180L, 0x4011000400080300L, 0x00101011088A0C00L, 0x1003000080420100L,
+		0x0180102100408001L, 0x1100108040010021L, 0x0182004008108022L, 0x0122900128202501L,
+		0x0002012004100802L, 0x00C200834C081002L, 0x0440020110083084L, 0x4000484884010022L};
+
+	private static final long[] BISHOP_MAGICS = {
+		0x10601C0480810A01L, 0x4802020801050809L, 0x3010040053448000L, 0x900404208A000208L,
+		0x0201104021040002L, 0x5048410820000020L, 0x1004044208041100L, 0x00801308180C0400L,
+		0x0010502109010A00L, 0x0004108200840082L, 0x1020118802004020L, 0x008004440180C000L,
+		0x00000A1210000000L, 0x0000091008040248L, 0x1402440104100440L, 0x0804244042101088L,
+		0x0008400490040860L, 0x4002200410240902L, 0x010A10010A040101L, 0x000422080200A400L,
+		0x240300C490400000L, 0x0002000101008298L, 0x0012016100826110L, 0x8002280602110410L,
+		0x5802080040508400L, 0x0090080042022400L, 0x0220240042080200L, 0x000108000C004010L,
+		0x1810101001004008L, 0x0421040842100400L, 0x240080A009041040L, 0x0009010000208800L,
+		0x0084210882041000L, 0xC011100214104440L, 0x1000840100500043L, 0x0002020080880082L,
+		0x84110802200A0200L, 0x200C880080051010L, 0x0008084040550901L, 0x0802040500102080L,
+		0x0C05041140485440L, 0x0044010802240810L, 0x0402001044080800L, 0x0040002124020808L,
+		0x540002020C000200L, 0x00A004208E000020L, 0x0409100100404208L, 0x0004010A14280201L,
+		0x020088010920004AL, 0x8000808088204406L, 0x200200C2C4502800L, 0x0040002084110004L,
+		0x0000424015044218L, 0x0001404901010080L, 0x0A20020441040000L, 0x2004010801010500L,
+		0x2050840108410401L, 0x0023409048021008L, 0x18000200540C0404L, 0x000400002020881AL,
+		0x0400008004904400L, 0x8000820910010200L, 0x0048D00410243047L, 0x4940822809002182L};
+
+	static {
+		for (int T=0; T<64; T++) {
+			ROOK_MASKS[T] = blockerMask(T, ROOK_DIRS);
+			ROOK_SHIFTS[T] = 64 - Long.bitCount(ROOK_MASKS[T]);
+			ROOK_TABLE[T] = fillTable(T, ROOK_MASKS[T], ROOK_MAGICS[T], ROOK_SHIFTS[T], ROOK_DIRS);
+
+			BISHOP_MASKS[T] = blockerMask(T, BISHOP_DIRS);
+			BISHOP_SHIFTS[T] = 64 - Long.bitCount(BISHOP_MASKS[T]);
+			BISHOP_TABLE[T] = fillTable(T, BISHOP_MASKS[T], BISHOP_MAGICS[T], BISHOP_SHIFTS[T], BISHOP_DIRS);
+
+			KNIGHT_ATTACKS[T] = stepAttacks(T, new int[][] {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}});
+			KING_ATTACKS[T] = stepAttacks(T, new int[][] {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}});
+
+			//White Pawns move towards Tile 0, Black Pawns towards Tile 63
+			PAWN_ATTACKS[BitBoard.WHITE][T] = stepAttacks(T, new int[][] {{-1, -1}, {-1, 1}});
+			PAWN_ATTACKS[BitBoard.BLACK][T] = stepAttacks(T, new int[][] {{1, -1}, {1, 1}});
+			PAWN_PUSHES[BitBoard.WHITE][T] = stepAttacks(T, new int[][] {{-1, 0}});
+			PAWN_PUSHES[BitBoard.BLACK][T] = stepAttacks(T, new int[][] {{1, 0}});
+		}
+
+		//Lines between Tiles come from the slider tables, so they are filled once those are complete
+		for (int a=0; a<64; a++) {
+			for (int b=0; b<64; b++) {
+				long A = 1L << a, B = 1L << b;
+
+				if (a == b)
+					continue;
+
+				if ((rookAttacks(a, 0) & B) != 0) {
+					BETWEEN[a][b] = rookAttacks(a, B) & rookAttacks(b, A);
+					LINE[a][b] = (rookAttacks(a, 0) & rookAttacks(b, 0)) | A | B;
+				} else if ((bishopAttacks(a, 0) & B) != 0) {
+					BETWEEN[a][b] = bishopAttacks(a, B) & bishopAttacks(b, A);
+					LINE[a][b] = (bishopAttacks(a, 0) & bishopAttacks(b, 0)) | A | B;
+				}
+			}
+		}
+	}
+
+
+	/*
+		rookAttacks(int T, long occupied) - Returns the bitboard of Tiles a Rook on Tile T attacks given the occupied Tiles.
+		The first piece on each ray is included whatever its color.
+	*/
+	public static long rookAttacks(int T, long occupied) {
+		return ROOK_TABLE[T][(int) (((occupied & ROOK_MASKS[T]) * ROOK_MAGICS[T]) >>> ROOK_SHIFTS[T])];
+	}
+
+
+	/*
+		bishopAttacks(int T, long occupied) - Returns the bitboard of Tiles a Bishop on Tile T attacks given the occupied Tiles.
+	*/
+	public static long bishopAttacks(int T, long occupied) {
+		return BISHOP_TABLE[T][(int) (((occupied & BISHOP_MASKS[T]) * BISHOP_MAGICS[T]) >>> BISHOP_SHIFTS[T])];
+	}
+
+
+	/*
+		queenAttacks(int T, long occupied) - Returns the bitboard of Tiles a Queen on Tile T attacks given the occupied Tiles.
+	*/
+	public static long queenAttacks(int T, long occupied) {
+		return rookAttacks(T, occupied) | bishopAttacks(T, occupied);
+	}
+
+
+	/*
+		knightAttacks(int T) - Returns the bitboard of Tiles a Knight on Tile T attacks.
+	*/
+	public static long knightAttacks(int T) {
+		return KNIGHT_ATTACKS[T];
+	}
+
+
+	/*
+		kingAttacks(int T) - Returns the bitboard of Tiles a King on Tile T attacks.
+	*/
+	public static long kingAttacks(int T) {
+		return KING_ATTACKS[T];
+	}
+
+
+	/*
+		pawnAttacks(int color, int T) - Returns the bitboard of Tiles a Pawn of the given color on Tile T attacks.
+		Read the other way round, these are the Tiles from which an enemy Pawn attacks T.
+	*/
+	public static long pawnAttacks(int color, int T) {
+		return PAWN_ATTACKS[color][T];
+	}
+
+
+	/*
+		pawnPushes(int color, int T) - Returns the bitboard holding the Tile one step forward of a Pawn of the given
+		color on Tile T, or 0 on the last rank.
+	*/
+	public static long pawnPushes(int color, int T) {
+		return PAWN_PUSHES[color][T];
+	}
+
+
+	/*
+		between(int a, int b) - Returns the bitboard of Tiles strictly between Tiles a and b when they share a rank, file or
+		diagonal, 0 otherwise. A piece moving onto one of these Tiles blocks a slider on a from reaching b.
+	*/
+	public static long between(int a, int b) {
+		return BETWEEN[a][b];
+	}
+
+
+	/*
+		line(int a, int b) - Returns the bitboard of the whole rank, file or diagonal running through Tiles a and b, 0 if they
+		share none. A piece pinned to its King on a may only move along the line to b.
+	*/
+	public static long line(int a, int b) {
+		return LINE[a][b];
+	}
+
+
+	/*
+		stepAttacks(int T, int[][] steps) - Returns the Tiles reached from T by each rank/file step that stays on the board.
+	*/
+	private static long stepAttacks(int T, int[][] steps) {
+		long attacks = 0L;
+
+		for (int[] d : steps) {
+			int r = T/8 + d[0], f = T%8 + d[1];
+			if (r >= 0 && r < 8 && f >= 0 && f < 8)
+				attacks |= 1L << (r*8 + f);
+		}
+		return attacks;
+	}
+
+
+	/*
+		blockerMask(int T, int[][] dirs) - Returns the Tiles along the given rays from T whose occupancy can change the
+		attack set, which is every Tile on the ray except the last one at the board edge.
+	*/
+	private static long blockerMask(int T, int[][] dirs) {
+		long mask = 0L;
+
+		for (int[] d : dirs) {
+			int r = T/8 + d[0], f = T%8 + d[1];
+			while (r + d[0] >= 0 && r + d[0] < 8 && f + d[1] >= 0 && f + d[1] < 8) {
+				mask |= 1L << (r*8 + f);
+				r += d[0];
+				f += d[1];
+			}
+		}
+		return mask;
+	}
+
+
+	/*
+		slidingAttacks(int T, long occupied, int[][] dirs) - Walks the given rays from T one Tile at a time, stopping at
+		the first occupied Tile. Only used while the tables are being built.
+	*/
+	private static long slidingAttacks(int T, long occupied, int[][] dirs) {
+		long attacks = 0L;
+
+		for (int[] d : dirs) {
+			int r = T/8 + d[0], f = T%8 + d[1];
+			while (r >= 0 && r < 8 && f >= 0 && f < 8) {
+				attacks |= 1L << (r*8 + f);
+				if ((occupied & (1L << (r*8 + f))) != 0)
+					break;
+				r += d[0];
+				f += d[1];
+			}
+		}
+		return attacks;
+	}
+
+
+	/*
+		fillTable(int T, long mask, long magic, int shift, int[][] dirs) - Builds the attack table for Tile T by walking the
+		rays once for every subset of mask, carry-rippler style, and storing the result at its magic index.
+	*/
+	private static long[] fillTable(int T, long mask, long magic, int shift, int[][] dirs) {
+
+		long[] table = new long[1 << Long.bitCount(mask)];
+		long sub = 0L;
+
+		do {
+			table[(int) ((sub * magic) >>> shift)] = slidingAttacks(T, sub, dirs);
+			sub = (sub - mask) & mask;
+		} while (sub != 0);
+
+		return table;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+	Bench.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	Bench.java is a headless tool for measuring the searches of the GameTree on a fixed set of positions, so that a
+	change to the search can be judged by numbers rather than by playing games. Every position has Black to move, as
+	the computer always plays Black.
+
+	The tree benchmark builds the GameState tree of each position SEARCH_DEPTH levels deep, then searches it serially
+	with alphaBetaSearch and in parallel with the TreeSearcher tasks, reporting the time each took, the speedup of the
+	parallel search and whether both found the same value for the head. The tree is built once and searched by both,
+	so only the searches are timed. Each position is searched once before timing so the JIT has compiled the search.
+
+	The search benchmark runs the depth first search with null move pruning, late move reductions and futility pruning
+	each on alone, all off and all on, first to a fixed depth, reporting the nodes and time each took over every
+	position, then for a fixed time per position, reporting the average depth each completed.
+
+	The threads benchmark runs the depth first search with all pruning on in each parallel mode, ROOT_SPLIT and
+	LAZY_SMP, on pools of 1 up to the number of processors. To a fixed depth it reports the nodes, time and speedup over
+	one thread of each, and for a fixed time per position the average depth completed and the nodes searched per second.
+
+	Usage:
+		java Bench						- Runs every benchmark, the search ones to depth 6 and for 2000 ms.
+		java Bench tree					- Runs the tree benchmark.
+		java Bench search <depth> <ms>	- Runs the search benchmark to the given depth and for the given time.
+		java Bench threads <depth> <ms>	- Runs the threads benchmark to the given depth and for the given time.
+
+	Data members:
+		POSITIONS - String[]	- FEN of each benchmark position.
+		CONFIGS - int[]			- Each combination of pruning benchmarked, bit 0 for null moves, bit 1 for reductions and
+									bit 2 for futility.
+*/
+
+
+import java.util.concurrent.ForkJoinPool;
+
+
+public class Bench {
+
+	private static final String[] POSITIONS = {
+		"rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1",
+		"r1bqkbnr/pppp1ppp/2n5/4p3/3PP3/5N2/PPP2PPP/RNBQKB1R b KQkq - 0 3",
+		"r1bqk2r/pppp1ppp/2n2n2/2b1p3/2B1P3/2PP1N2/PP3PPP/RNBQK2R b KQkq - 0 5",
+		"r2q1rk1/pp2bppp/2n1bn2/3p4/3P4/2NBBN2/PP3PPP/R2Q1RK1 b - - 0 10",
+		"8/5pk1/6p1/8/3R4/6P1/5PKP/3r4 b - - 0 40"
+	};
+
+
+	private static final int[] CONFIGS = {0, 1, 2, 4, 7};
+
+
+	public static void main(String[] args) {
+
+		if (args.length == 0) {
+			tree();
+			search(6, 2000);
+			threads(6, 2000);
+		} else if (args[0].equals("tree") && args.length == 1)
+			tree();
+		else if (args[0].equals("search") && args.length == 3)
+			search(Integer.parseInt(args[1]), Long.parseLong(args[2]));
+		else if (args[0].equals("threads") && args.length == 3)
+			threads(Integer.parseInt(args[1]), Long.parseLong(args[2]));
+		else {
+			System.err.println("Usage: java Bench [tree | search <depth> <ms> | threads <depth> <ms>]");
+			System.exit(1);
+		}
+	}
+
+
+	/*
+		tree() - Builds and searches the GameState tree of every position serially and in parallel, printing the time of
+		each search, the speedup and whether the values agree, then the totals.
+	*/
+	public static void tree() {
+		GameTree G = new GameTree();
+		long serialTotal = 0, parallelTotal = 0;
+		boolean agree = true;
+
+		System.out.println("Tree search, " + GameTree.getPool().getParallelism() + " threads");
+
+		for (String fen : POSITIONS) {
+			G.setRoot(new BitBoard(fen));
+			G.buildTree();
+
+			//Warm up
+			G.evaluateTree(false);
+			G.evaluateTree(true);
+
+			long start = System.nanoTime();
+			double serial = G.evaluateTree(false);
+			long serialTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			double parallel = G.evaluateTree(true);
+			long parallelTime = System.nanoTime() - start;
+
+			serialTotal += serialTime;
+			parallelTotal += parallelTime;
+			agree &= (serial == parallel);
+
+			System.out.println(fen);
+			System.out.println("\tserial " + millis(serialTime) + " ms, parallel " + millis(parallelTime) + " ms, speedup "
+				+ speedup(serialTime, parallelTime) + ((serial == parallel) ? "" : ", values differ " + serial + " " + parallel));
+		}
+
+		System.out.println("Total: serial " + millis(serialTotal) + " ms, parallel " + millis(parallelTotal) + " ms, speedup "
+			+ speedup(serialTotal, parallelTotal) + (agree ? "" : ", values differ"));
+	}
+
+
+	/*
+		search(int depth, long ms) - Runs the depth first search on every position with each combination of pruning, to
+		the given depth and then for the given time in milliseconds, printing the totals of each.
+	*/
+	public static void search(int depth, long ms) {
+
+		//Warm up
+		configure(7, POSITIONS[0]).searchDepthFirst(depth);
+
+		System.out.println("Depth first search to depth " + depth);
+
+		for (int c=0; c<CONFIGS.length; c++) {
+			long nodes = 0, time = 0;
+
+			for (String fen : POSITIONS) {
+				GameTree G = configure(CONFIGS[c], fen);
+				long start = System.nanoTime();
+				G.searchDepthFirst(depth);
+				time += System.nanoTime() - start;
+				nodes += G.getNodes();
+			}
+
+			System.out.println("\t" + name(CONFIGS[c]) + ": " + nodes + " nodes, " + millis(time) + " ms");
+		}
+
+		System.out.println("Depth first search for " + ms + " ms");
+
+		for (int c=0; c<CONFIGS.length; c++) {
+			int total = 0;
+
+			for (String fen : POSITIONS) {
+				GameTree G = configure(CONFIGS[c], fen);
+				G.setTimeLimit(ms);
+				G.iterativeDeepening();
+				total += G.getCompletedDepth();
+			}
+
+			System.out.println("\t" + name(CONFIGS[c]) + ": average depth " + String.format("%.1f", (double) total / POSITIONS.length));
+		}
+	}
+
+
+	/*
+		threads(int depth, long ms) - Runs the depth first search on every position in each parallel mode on pools of 1 up
+		to the number of processors, to the given depth and then for the given time in milliseconds, printing the totals
+		of each.
+	*/
+	public static void threads(int depth, long ms) {
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		int[] modes = {GameTree.ROOT_SPLIT, GameTree.LAZY_SMP};
+		String[] names = {"root split", "lazy SMP"};
+
+		//Warm up
+		configure(7, POSITIONS[0]).searchDepthFirst(depth);
+
+		System.out.println("Parallel search to depth " + depth);
+		System.out.println("Mode\t\tThreads\tNodes\t\tms\tSpeedup");
+
+		for (int m=0; m<modes.length; m++) {
+			long base = 0;
+
+			for (int k=1; k<=processors; k++) {
+				ForkJoinPool pool = new ForkJoinPool(k);
+				long nodes = 0, time = 0;
+
+				for (String fen : POSITIONS) {
+					GameTree G = configure(7, fen);
+					G.setParallelMode(modes[m]);
+					G.setPool(pool);
+					long start = System.nanoTime();
+					G.searchDepthFirst(depth);
+					time += System.nanoTime() - start;
+					nodes += G.getNodes();
+				}
+
+				pool.shutdown();
+
+				if (k == 1)
+					base = time;
+
+				System.out.println(names[m] + "\t" + k + "\t" + nodes + "\t\t" + millis(time) + "\t" + speedup(base, time));
+			}
+		}
+
+		System.out.println("Parallel search for " + ms + " ms");
+		System.out.println("Mode\t\tThreads\tAverage depth\tNodes/second");
+
+		for (int m=0; m<modes.length; m++) {
+			for (int k=1; k<=processors; k++) {
+				ForkJoinPool pool = new ForkJoinPool(k);
+				long nodes = 0, time = 0;
+				int total = 0;
+
+				for (String fen : POSITIONS) {
+					GameTree G = configure(7, fen);
+					G.setParallelMode(modes[m]);
+					G.setPool(pool);
+					G.setTimeLimit(ms);
+					long start = System.nanoTime();
+					G.iterativeDeepening();
+					time += System.nanoTime() - start;
+					nodes += G.getNodes();
+					total += G.getCompletedDepth();
+				}
+
+				pool.shutdown();
+
+				System.out.println(names[m] + "\t" + k + "\t" + String.format("%.1f", (double) total / POSITIONS.length) + "\t\t"
+					+ nodes * 1000000000L / Math.max(1, time));
+			}
+		}
+	}
+
+
+	/*
+		configure(int config, String fen) - Returns a new GameTree set to search the given position with the combination
+		of pruning numbered config.
+	*/
+	private static GameTree configure(int config, String fen) {
+		GameTree G = new GameTree();
+		G.setRoot(new BitBoard(fen));
+		G.setNullMovePruning((config & 1) != 0);
+		G.setLateMoveReductions((config & 2) != 0);
+		G.setFutilityPruning((config & 4) != 0);
+		return G;
+	}
+
+
+	/*
+		name(int config) - Returns the names of the pruning turned on in a combination.
+	*/
+	private static String name(int config) {
+		String[] names = {"null move", "reductions", "futility"};
+		String S = "";
+
+		for (int i=0; i<names.length; i++)
+			if ((config & (1 << i)) != 0)
+				S += (S.isEmpty() ? "" : " + ") + names[i];
+
+		return S.isEmpty() ? "plain" : S;
+	}
+
+
+	/*
+		millis(long nanos) - Returns the given number of nanoseconds in whole milliseconds.
+	*/
+	private static long millis(long nanos) {
+		return nanos / 1000000;
+	}
+
+
+	/*
+		speedup(long base, long time) - Returns base divided by time to two decimal places, as a String.
+	*/
+	private static String speedup(long base, long time) {
+		return String.format("%.2f", (double) base / Math.max(1, time));
+	}
+}
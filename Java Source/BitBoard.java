@@ -0,0 +1,614 @@
+/*
+	BitBoard.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	BitBoard.java - A bitboard representation of a Chessboard object used by the GameTree to generate and search
+	positions. It answers the same queries as a BitMap but keeps a 64 bit occupancy word per color and per piece type,
+	so testing a Tile for a piece is a single mask and sets of pieces can be walked with Long.bitCount and
+	Long.numberOfTrailingZeros instead of a scan over every piece ID.
+
+	A BitBoard is mutable. makeMove plays a packed move on it and unmakeMove takes the last one back, restoring the
+	board from an undo stack, so a whole depth first walk of the game tree runs on a single BitBoard per thread rather
+	than copying the board for every child.
+
+	Bit i of every bitboard corresponds to the Tile with ID i, so bit 0 is the top left Tile (Black's side) and
+	bit 63 the bottom right Tile (White's side).
+
+	Data members:
+		pieces - long[]		- Occupancy of every piece type by color, indexed by color*6 + type.
+		colors - long[]		- Occupancy of every piece of one color, indexed by color.
+		occupied - long		- Occupancy of every piece on the board.
+		map - byte[]		- Array where each index represents a piece ID holding the ID number of the Tile the piece resides on.
+								A -1 means the piece is captured.
+		squares - byte[]	- Array where each index represents a Tile ID holding the ID of the piece on it, -1 if the Tile is empty.
+		kinds - byte[]		- Array where each index represents a piece ID holding its type, allowing for promoted Pawns.
+		specials - int		- 32 bit number where the ith digit counting right to left is 1 if the piece with ID i has moved, 0 otherwise.
+		enPassant - int		- ID of the Tile a Pawn skipped over with a double jump on the last move, -1 if there was none.
+		side - int			- Color to move.
+		hash - long			- Zobrist hash of the position (see Zobrist.java), kept up to date by every change to the board.
+
+		undoMoves - int[]		- Stack of the moves made, most recent at index top-1.
+		undoCaptures - byte[]	- Stack of the piece IDs those moves captured, -1 for none.
+		undoSpecials - int[]	- Stack of the specials int before each move.
+		undoEnPassant - byte[]	- Stack of the enPassant Tile before each move.
+		undoHash - long[]		- Stack of the hash before each move.
+		top - int				- Number of moves on the undo stack.
+
+*/
+
+
+public class BitBoard {
+
+	//Color indices
+	public static final int WHITE = 0;
+	public static final int BLACK = 1;
+
+	//Piece type indices
+	public static final int PAWN = 0;
+	public static final int KNIGHT = 1;
+	public static final int BISHOP = 2;
+	public static final int ROOK = 3;
+	public static final int QUEEN = 4;
+	public static final int KING = 5;
+
+	private static final String TYPE_CHARS = "PNBRQK";
+
+	private long[] pieces;
+	private long[] colors;
+	private long occupied;
+	private byte[] map;
+	private byte[] squares;
+	private byte[] kinds;
+	private int specials;
+	private int enPassant;
+	private int side;
+	private long hash;
+
+	private int[] undoMoves;
+	private byte[] undoCaptures;
+	private int[] undoSpecials;
+	private byte[] undoEnPassant;
+	private long[] undoHash;
+	private int top;
+
+
+	//Construct a BitBoard representation of the given Chessboard with Black, the computer, to move.
+	public BitBoard(Chessboard C, int specs) {
+
+		pieces = new long[12];
+		colors = new long[2];
+		map = new byte[32];
+		squares = new byte[64];
+		kinds = new byte[32];
+
+		int[] CP = C.getList();
+
+		for (int i = 0; i<64; i++)
+			squares[i] = -1;
+
+		for (int i = 0; i<32; i++) {
+			map[i] = -1;
+			if (CP[i] != -1) {
+				kinds[i] = (byte) typeIndex(C.fetchPiece(i).getType());
+				place(i, CP[i]);
+			}
+		}
+
+		if (specs == -1)
+			specials = 0x00000000;	//32 bit hexadecimal
+		else
+			specials = specs;
+
+		enPassant = -1;
+		side = BLACK;
+		hash = computeHash();
+		initUndo();
+	}
+
+
+	//Construct a BitBoard identical to the given one with an empty undo stack, for handing a position to another thread.
+	public BitBoard(BitBoard B) {
+
+		pieces = B.pieces.clone();
+		colors = B.colors.clone();
+		occupied = B.occupied;
+		map = B.map.clone();
+		squares = B.squares.clone();
+		kinds = B.kinds.clone();
+		specials = B.specials;
+		enPassant = B.enPassant;
+		side = B.side;
+		hash = B.hash;
+		initUndo();
+	}
+
+
+	/*
+		Construct a BitBoard from a position in Forsyth-Edwards Notation, used to set up test positions for Perft.
+		Pieces are given the IDs they would have in a game where possible: Kings 15/31, Queens 14/30, Knights 10-11/26-27,
+		Bishops 12-13/28-29 and Pawns 0-7/16-23. A Rook that may still castle on the King's side takes 9/25 and one on the
+		Queen's side 8/24, so King.generate finds them where it expects. Pieces beyond these, such as promoted ones,
+		take any free ID of their color. Castling rights become the moved bits of the Kings and Rooks, every other piece
+		is marked as moved.
+	*/
+	public BitBoard(String fen) {
+
+		pieces = new long[12];
+		colors = new long[2];
+		map = new byte[32];
+		squares = new byte[64];
+		kinds = new byte[32];
+
+		String[] fields = fen.trim().split("\\s+");
+		String rights = (fields.length > 2) ? fields[2] : "-";
+		int[] onTile = new int[64];
+		int T = 0;
+
+		for (int i = 0; i<32; i++)
+			map[i] = -1;
+
+		for (int i = 0; i<64; i++) {
+			squares[i] = -1;
+			onTile[i] = -1;
+		}
+
+		//Read the piece placement, rank 8 first, which is the order of the Tile IDs
+		for (char c : fields[0].toCharArray()) {
+			if (c == '/')
+				continue;
+			else if (Character.isDigit(c))
+				T += c - '0';
+			else
+				onTile[T++] = c;
+		}
+
+		boolean[] taken = new boolean[32];
+		specials = 0xFFFFFFFF;
+
+		//Castling Kings and Rooks first so nothing else takes their IDs
+		int[][] castlers = {{'K', 60, 'K', 15}, {'K', 63, 'R', 9}, {'Q', 60, 'K', 15}, {'Q', 56, 'R', 8},
+							{'k', 4, 'k', 31}, {'k', 7, 'r', 25}, {'q', 4, 'k', 31}, {'q', 0, 'r', 24}};
+
+		for (int[] C : castlers) {
+			if (rights.indexOf(C[0]) != -1 && onTile[C[1]] == C[2]) {
+				if (!taken[C[3]])
+					addPiece(C[3], C[1], onTile[C[1]], taken);
+				specials &= ~(1 << C[3]);
+			}
+		}
+
+		//Every other piece takes its usual ID when free
+		String preferred = "PPPPPPPPRRNNBBQK";
+		for (T = 0; T<64; T++) {
+			if (onTile[T] == -1 || squares[T] != -1)
+				continue;
+
+			int base = Character.isUpperCase(onTile[T]) ? 0 : 16;
+			for (int i = 0; i<16; i++) {
+				if (!taken[base + i] && preferred.charAt(i) == Character.toUpperCase((char) onTile[T])) {
+					addPiece(base + i, T, onTile[T], taken);
+					break;
+				}
+			}
+		}
+
+		//Leftover pieces take any free ID of their color
+		for (T = 0; T<64; T++) {
+			if (onTile[T] == -1 || squares[T] != -1)
+				continue;
+
+			int base = Character.isUpperCase(onTile[T]) ? 0 : 16;
+			for (int i = 0; i<16; i++) {
+				if (!taken[base + i]) {
+					addPiece(base + i, T, onTile[T], taken);
+					break;
+				}
+			}
+		}
+
+		side = (fields.length > 1 && fields[1].equals("b")) ? BLACK : WHITE;
+
+		if (fields.length > 3 && !fields[3].equals("-"))
+			enPassant = (fields[3].charAt(0) - 'a') + ('8' - fields[3].charAt(1))*8;
+		else
+			enPassant = -1;
+
+		hash = computeHash();
+		initUndo();
+	}
+
+
+	/*
+		addPiece(int P, int T, int c, boolean[] taken) - Used while reading a FEN string. Gives the piece written as the
+		character c the ID P and places it on the Tile with ID T.
+	*/
+	private void addPiece(int P, int T, int c, boolean[] taken) {
+		kinds[P] = (byte) typeIndex(Character.toUpperCase((char) c));
+		taken[P] = true;
+		place(P, T);
+	}
+
+
+	/*
+		initUndo() - Allocates an empty undo stack deep enough for any line the GameTree searches.
+	*/
+	private void initUndo() {
+		undoMoves = new int[GameTree.MAX_DEPTH];
+		undoCaptures = new byte[GameTree.MAX_DEPTH];
+		undoSpecials = new int[GameTree.MAX_DEPTH];
+		undoEnPassant = new byte[GameTree.MAX_DEPTH];
+		undoHash = new long[GameTree.MAX_DEPTH];
+		top = 0;
+	}
+
+
+	/*
+		makeMove(int M) - Plays the packed move M for the side to move, pushing what is needed to take it back onto the
+		undo stack.
+	*/
+	public void makeMove(int M) {
+
+		int from = Move.getFrom(M);
+		int to = Move.getTo(M);
+		int P = squares[from];
+		int captured = (Move.getFlags(M) == Move.EN_PASSANT) ? squares[(side == WHITE) ? to+8 : to-8] : squares[to];
+
+		undoMoves[top] = M;
+		undoCaptures[top] = (byte) captured;
+		undoSpecials[top] = specials;
+		undoEnPassant[top] = (byte) enPassant;
+		undoHash[top] = hash;
+		top++;
+
+		int oldSpecials = specials;
+		if (enPassant != -1)
+			hash ^= Zobrist.EN_PASSANT[enPassant];
+
+		//See if capture made, an en passant capture takes the Pawn behind the destination
+		if (captured != -1)
+			remove(captured);
+
+		remove(P);
+		if (Move.isPromotion(M))
+			kinds[P] = (byte) Move.getPromotion(M);
+		place(P, to);
+
+		//Update specs
+		specials |= 1 << P;
+		enPassant = -1;
+
+		//Castling also moves the Rook to the other side of the King
+		if (Move.getFlags(M) == Move.KING_CASTLE) {
+			int R = squares[to+1];
+			remove(R);
+			place(R, to-1);
+			specials |= 1 << R;
+		} else if (Move.getFlags(M) == Move.QUEEN_CASTLE) {
+			int R = squares[to-2];
+			remove(R);
+			place(R, to+1);
+			specials |= 1 << R;
+		} else if (Move.getFlags(M) == Move.DOUBLE_PUSH) {
+			enPassant = (from + to)/2;
+			hash ^= Zobrist.EN_PASSANT[enPassant];
+		}
+
+		if (Zobrist.castlingChanged(oldSpecials, specials))
+			hash ^= Zobrist.CASTLING[Zobrist.rights(oldSpecials)] ^ Zobrist.CASTLING[Zobrist.rights(specials)];
+
+		side = 1 - side;
+		hash ^= Zobrist.SIDE;
+	}
+
+
+	/*
+		makeNullMove() - Passes the turn to the other side without moving a piece, for the search's null move pruning. It
+		is pushed onto the undo stack as Move.NONE and taken back with unmakeMove like any other move.
+	*/
+	public void makeNullMove() {
+
+		undoMoves[top] = Move.NONE;
+		undoCaptures[top] = -1;
+		undoSpecials[top] = specials;
+		undoEnPassant[top] = (byte) enPassant;
+		undoHash[top] = hash;
+		top++;
+
+		if (enPassant != -1)
+			hash ^= Zobrist.EN_PASSANT[enPassant];
+		enPassant = -1;
+
+		side = 1 - side;
+		hash ^= Zobrist.SIDE;
+	}
+
+
+	/*
+		unmakeMove() - Takes back the last move made with makeMove or makeNullMove, leaving the BitBoard exactly as it was
+		before.
+	*/
+	public void unmakeMove() {
+
+		top--;
+		int M = undoMoves[top];
+
+		if (M == Move.NONE) {
+			side = 1 - side;
+			enPassant = undoEnPassant[top];
+			hash = undoHash[top];
+			return;
+		}
+		int from = Move.getFrom(M);
+		int to = Move.getTo(M);
+		int P = squares[to];
+
+		side = 1 - side;
+
+		//Put the Rook back first so the King's way home is clear
+		if (Move.getFlags(M) == Move.KING_CASTLE) {
+			int R = squares[to-1];
+			remove(R);
+			place(R, to+1);
+		} else if (Move.getFlags(M) == Move.QUEEN_CASTLE) {
+			int R = squares[to+1];
+			remove(R);
+			place(R, to-2);
+		}
+
+		remove(P);
+		if (Move.isPromotion(M))
+			kinds[P] = PAWN;
+		place(P, from);
+
+		int captured = undoCaptures[top];
+		if (captured != -1)
+			place(captured, (Move.getFlags(M) == Move.EN_PASSANT) ? ((side == WHITE) ? to+8 : to-8) : to);
+
+		specials = undoSpecials[top];
+		enPassant = undoEnPassant[top];
+		hash = undoHash[top];
+	}
+
+
+	/*
+		place(int P, int T) - Puts the piece with ID P on the Tile with ID T, updating every bitboard and index.
+	*/
+	private void place(int P, int T) {
+		long bit = 1L << T;
+
+		pieces[colorOf(P)*6 + kinds[P]] |= bit;
+		colors[colorOf(P)] |= bit;
+		occupied |= bit;
+		map[P] = (byte) T;
+		squares[T] = (byte) P;
+		hash ^= Zobrist.PIECES[colorOf(P)*6 + kinds[P]][T];
+	}
+
+
+	/*
+		remove(int P) - Takes the piece with ID P off the board, updating every bitboard and index.
+	*/
+	private void remove(int P) {
+		int T = map[P];
+		long bit = ~(1L << T);
+
+		pieces[colorOf(P)*6 + kinds[P]] &= bit;
+		colors[colorOf(P)] &= bit;
+		occupied &= bit;
+		map[P] = -1;
+		squares[T] = -1;
+		hash ^= Zobrist.PIECES[colorOf(P)*6 + kinds[P]][T];
+	}
+
+
+	/*
+		colorOf(int P) - Returns the color index of the piece with ID P.
+	*/
+	public static int colorOf(int P) {
+		return (P < 16) ? WHITE : BLACK;
+	}
+
+
+	/*
+		typeIndex(char type) - Returns the type index of the given Piece type character, 'P', 'N', 'B', 'R', 'Q' or 'K'.
+	*/
+	public static int typeIndex(char type) {
+		return TYPE_CHARS.indexOf(type);
+	}
+
+
+	/*
+		getSpecs() - Returns the specials int.
+	*/
+	public int getSpecs() {
+		return specials;
+	}
+
+
+	/*
+		getSide() - Returns the color to move.
+	*/
+	public int getSide() {
+		return side;
+	}
+
+
+	/*
+		getLastMove() - Returns the last move made on this BitBoard that has not been taken back, Move.NONE if there is none.
+	*/
+	public int getLastMove() {
+		return (top == 0) ? Move.NONE : undoMoves[top-1];
+	}
+
+
+	/*
+		getEnPassant() - Returns the ID of the Tile a Pawn may capture onto en passant, -1 if there is none.
+	*/
+	public int getEnPassant() {
+		return enPassant;
+	}
+
+
+	/*
+		getHash() - Returns the 64 bit Zobrist hash of the position, covering every piece kind on every Tile, the side to
+		move, which Kings and Rooks may still castle and the en passant Tile. Positions that play out identically hash the
+		same no matter how they were reached, so the hash can key a table of results shared between transpositions.
+	*/
+	public long getHash() {
+		return hash;
+	}
+
+
+	/*
+		computeHash() - Returns the Zobrist hash of the position worked out from scratch rather than kept up to date,
+		which must always equal getHash().
+	*/
+	public long computeHash() {
+		long key = (side == BLACK) ? Zobrist.SIDE : 0;
+
+		for (int i=0; i<12; i++)
+			for (long b = pieces[i]; b != 0; b &= b - 1)
+				key ^= Zobrist.PIECES[i][Long.numberOfTrailingZeros(b)];
+
+		key ^= Zobrist.CASTLING[Zobrist.rights(specials)];
+
+		if (enPassant != -1)
+			key ^= Zobrist.EN_PASSANT[enPassant];
+
+		return key;
+	}
+
+
+	/*
+		getOccupied() - Returns the bitboard of every occupied Tile.
+	*/
+	public long getOccupied() {
+		return occupied;
+	}
+
+
+	/*
+		getColor(int color) - Returns the bitboard of every Tile occupied by a piece of the given color.
+	*/
+	public long getColor(int color) {
+		return colors[color];
+	}
+
+
+	/*
+		getPieces(int color, int type) - Returns the bitboard of every Tile occupied by a piece of the given color and type.
+	*/
+	public long getPieces(int color, int type) {
+		return pieces[color*6 + type];
+	}
+
+
+	/*
+		count(int color, int type) - Returns the number of pieces of the given color and type still in play.
+	*/
+	public int count(int color, int type) {
+		return Long.bitCount(pieces[color*6 + type]);
+	}
+
+
+	/*
+		isOccupied(int T) - Returns true if a piece occupies the Tile with ID T.
+	*/
+	public boolean isOccupied(int T) {
+		return (occupied & (1L << T)) != 0;
+	}
+
+
+	/*
+		getPosition(int T) - Given a Tile ID T returns the contents of that space on the represented board.
+		If a piece occupies the space its ID is returned otherwise a -1 signifying an empty space is returned.
+	*/
+	public int getPosition(int T) {
+		return squares[T];
+	}
+
+
+	/*
+		getPiecePos(int P) - Given a Piece ID P returns the Tile ID of the space that piece occupies.
+		If the Piece has been captured a -1 is returned.
+	*/
+	public int getPiecePos(int P) {
+		return map[P];
+	}
+
+
+	/*
+		getType(int P) - Given a Piece ID P returns the type index of that piece.
+	*/
+	public int getType(int P) {
+		return kinds[P];
+	}
+
+
+	/*
+		getPStatus(int P) - Given a Piece ID P returns whether or not the Piece has moved at all.
+		This method's primary use is for checking King/Rook Castling requirements and Pawn double jump requirements.
+	*/
+	public boolean getPStatus(int P) {
+		return (specials & (1 << P)) != 0;
+	}
+
+
+	/*
+		updateBoardScan() - Looks over the board for changes in white pieces that warrant change to specials int.
+		In particular the white Pawns, King, and Rooks.
+	*/
+	public void updateBoardScan() {
+		//White pawns
+		for (int i=0; i<8; i++)
+			if (getPiecePos(i) != 48 + i)
+				specials |= 1 << i;
+
+		//White rooks
+		if (getPiecePos(8) != 56)
+			specials |= 1 << 8;
+
+		if (getPiecePos(9) != 63)
+			specials |= 1 << 9;
+
+		//White king
+		if (getPiecePos(15) != 60)
+			specials |= 1 << 15;
+
+		hash = computeHash();
+	}
+
+
+	/*
+		attackersOf(int T, int color, long occ) - Returns the bitboard of every piece of the given color attacking the
+		Tile with ID T when the occupied Tiles are occ. Passing an occupancy other than the board's own lets a caller ask
+		what would attack T once pieces have moved, such as a King stepping along a line it currently blocks.
+	*/
+	public long attackersOf(int T, int color, long occ) {
+
+		long queens = getPieces(color, QUEEN);
+
+		return (AttackTables.knightAttacks(T) & getPieces(color, KNIGHT))
+			| (AttackTables.pawnAttacks(1 - color, T) & getPieces(color, PAWN))
+			| (AttackTables.kingAttacks(T) & getPieces(color, KING))
+			| (AttackTables.bishopAttacks(T, occ) & (getPieces(color, BISHOP) | queens))
+			| (AttackTables.rookAttacks(T, occ) & (getPieces(color, ROOK) | queens));
+	}
+
+
+	/*
+		isSquareAttacked(int T, int byColor) - Returns true if any piece of color byColor attacks the Tile with ID T.
+		Rather than generating the enemy's moves, the attack sets of each piece type are looked up from T itself and
+		tested against the enemy pieces of that type, so the query costs a handful of table reads whatever the position.
+	*/
+	public boolean isSquareAttacked(int T, int byColor) {
+		return attackersOf(T, byColor, occupied) != 0;
+	}
+
+}
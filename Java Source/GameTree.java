@@ -1,372 +1,1550 @@
-/*
-	GameTree.java
-	
-	Date of Creation: Oct 20, 2018
-	Date of last modification: Dec 24, 2018
-	
-	Author: Justin Underhay
-*/
-
-/*
-	GameTree.java represents the game tree generated and searched by the computer when the PlayChess file is executed.
-	When PlayChess is executing and the user decides to play against the computer, the computer's moves are decided by
-	examining the current state of the board and generating all possible moves for an arbitrary number of turns with each
-	turn being one level in the tree. Each board state at the bottom of the tree is evaluated using Evaluate.java based
-	on its favorability and the scores are propogated up the tree with the computer choosing its highest scoring child.
-	
-	The game tree can be generated and searched in two different ways, in a serial iterative manner or in a parallel manner. The parallel
-	method attempts to improve over the serial one by splitting work among ForkJoin tasks and invoking them via a ForkJoinPool.
-	The search algorithm is the alpha-beta pruning method. 
-
-	Data members:
-		head - GameState	 - The head of this GameTree.
-		treeDepth - int		 - The depth of this GameTree.
-		pieces - Piece[]	 - A Piece array used to generate moves and create new GameStates.
-		last - int			 - Integer representing special conditions of pieces in the head's BitMap.
-		evaluator - Evaluate - Class used to calculate static evaluation values of BitMaps.
-
-*/
-
-
-import java.lang.Double;
-import java.lang.Math;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.RecursiveAction;
-
-
-public class GameTree {
-	
-	//The ForkJoin thread pool used for parallel execution of game tree generation and searching.
-	private static final ForkJoinPool mainPool = new ForkJoinPool();
-
-	/*
-		TreeGenerator is the ForkJoinTask subclass created and invoked to generate the game tree in parallel.
-		A TreeGenerator task invoked with the init member set to true will generate the first level of the 
-		tree serially, then split those nodes as equally as possible among n groups where n is the number
-		of processors available to the JVM. n new tasks are then invoked with each one responsible for generating
-		portions of the tree that extend the nodes given to it by using the generateGameTree method. 
-	*/
-	class TreeGenerator extends RecursiveAction {
-		private static final long serialVersionUID = 1L;
-		private boolean init;
-		private int limit;
-		private List<GameState> nodes;
-
-		TreeGenerator(boolean i, List<GameState> N, int l) {
-			this.init = i;
-			this.nodes =  N;
-			this.limit = l;
-		}
-
-
-		protected void compute() {
-			if (init) {
-
-				//Generate the first level of the tree
-				BitMap start = head.getBoard();
-				for (int i=16; i<32; i++) {
-					if (start.getPiecePos(i) != -1) {
-						for (int M : pieces[i].move(start)) {
-							if (M != -1) {
-								BitMap temp = new BitMap(start, i, M);
-								if (!temp.examine(31, pieces)) { 	
-									head.setChild(new GameState(temp, 1, i, M));
-									treeDepth = 1;	
-								}
-							}
-						}
-					}
-				}
-
-				if (treeDepth < limit) {
-
-					//Split head children into groups then invoke tasks
-					int numProcessors = Runtime.getRuntime().availableProcessors();
-					ArrayList<GameState> HC = head.getChildren();
-					List<TreeGenerator> tasks = new ArrayList<TreeGenerator>();
-
-					//Not evenly divisible, split as equally as possible
-					if (HC.size() % numProcessors != 0) {
-
-						if (HC.size() < numProcessors) {
-							for (int i=0; i<HC.size(); i++)
-								tasks.add(new TreeGenerator(false, HC.subList(i, i+1), limit));
-
-						} else {
-
-							int amt = (HC.size()-HC.size()%numProcessors)/numProcessors;
-
-							for (int i=0; i<numProcessors; i++) 
-								tasks.add(new TreeGenerator(false, HC.subList(i*amt, amt*(i+1)), limit));
-
-							tasks.add(new TreeGenerator(false, HC.subList(amt*numProcessors, HC.size()), limit));	
-						}
-
-					//Evenly divisible	
-					} else {
-						
-						int amt = HC.size()/numProcessors;
-
-						for (int i=0; i<numProcessors; i++) 
-							tasks.add(new TreeGenerator(false, HC.subList(i*amt, amt*(i+1)), limit));
-					}	
-
-					//Invoke the tasks
-					invokeAll(tasks);
-				}
-
-			} else {
-
-				for (GameState G : nodes)
-					generateGameTree(G, 0, limit);		
-			}
-		}
-	}
-
-
-	/*
-		TreeSearcher is the ForkJoinTask subclass created and invoked to search the game tree in parallel.
-		A parallel alpha-beta pruning search is used, specifically the Young Brothers Wait Concept where at
-		any unsearched node the leftmost subtree is searched completely first to establish a bound used
-		in a parallel search of all remaining subtrees using one worker thread per subtree. 
-	*/
-	class TreeSearcher extends RecursiveAction {
-		private static final long serialVersionUID = 1L;
-		private GameState top;
-		private double alpha, beta;
-		private boolean search;
-		
-
-		public TreeSearcher(GameState G, double A, double B, boolean S) {
-			this.top = G;
-			this.alpha = A;
-			this.beta = B;
-			this.search = S;
-		}
-
-
-		protected void compute() {
-			
-			//Terminal node
-			if (top.getNumChildren() == 0) {
-				top.setEval(evaluator.evaluateState(top.getBoard()));
-				return;
-			
-			//Search subtree rooted at top
-			} else if (search) {
-
-				if (top.getDepth()%2 == 0)
-					alphaBetaSearch(top, true, alpha, beta);
-				else
-					alphaBetaSearch(top, false, alpha, beta);
-
-			} else {
-
-				//Search leftmost subtree
-				mainPool.invoke(new TreeSearcher(top.getChild(0), alpha, beta, false));
-
-				//Assign value bound
-				if (top.getDepth()%2 == 0) {
-					alpha = top.getChild(0).getEval();
-					top.setEval(alpha);
-				} else {
-					beta = 	top.getChild(0).getEval();
-					top.setEval(beta);
-				}	
-
-
-				//Instantiate tasks to search remaining subtrees
-				ArrayList<TreeSearcher> TS = new ArrayList<TreeSearcher>(top.getNumChildren()-1);
-				for (int i=1; i<top.getNumChildren(); i++) 
-					TS.add(new TreeSearcher(top.getChild(i), alpha, beta, true));
-				
-				invokeAll(TS);
-
-				if (top.getDepth()%2 == 0) {
-					for (GameState G : top.getChildren())
-						if (top.getEval() < G.getEval())
-							top.setEval(G.getEval());
-				} else {
-					for (GameState G : top.getChildren())
-						if (top.getEval() > G.getEval())
-							top.setEval(G.getEval());
-				}			
-			}
-		}
-
-	}
-
-	
-
-	private GameState head;
-	private int treeDepth;
-	private Piece[] pieces;
-	private int last;
-	private Evaluate evaluator;
-	
-	
-	public GameTree() {
-
-		treeDepth = 0;
-		last = -1;
-		pieces = new Piece[32];
-
-		for (int i=0; i<8; i++) {
-			pieces[i] = new Pawn('W','P',i);
-			pieces[i+16] = new Pawn('B','P',i+16);
-		}
-
-		for (int j=8; j<10; j++) {
-			pieces[j] = new Rook('W','R',j);
-			pieces[j+16] = new Rook('B','R',j+16);
-
-			pieces[j+2] = new Knight('W','N',j+2);
-			pieces[j+18] = new Knight('B','N',j+18);
-
-			pieces[j+4] = new Bishop('W','B',j+4);
-			pieces[j+20] = new Bishop('B','B',j+20);
-		}
-
-		pieces[14] = new Queen('W','Q',14);
-		pieces[30] = new Queen('B','Q',30);
-
-		pieces[15] = new King('W','K',15);
-		pieces[31] = new King('B','K',31);
-
-		evaluator = new Evaluate(pieces);
-	}	
-
-
-	/*
-		getHead() - Returns the head member of this GameTree.
-	*/
-	public GameState getHead() {
-		return head;
-	}
-	
-	
-	/*
-		generateGameTree(GameState start, int turn, int limit) - Builds the game tree rooted at start
-		where turn is the first color to move. The limit integer specifies the max depth to build the tree
-		to. 
-	*/
-	public void generateGameTree(GameState start, int turn, int limit) {
-		int[] M;
-		BitMap curr = start.getBoard();
-		
-		for (int i=turn; i<turn+16; i++) {
-			if (curr.getPiecePos(i) != -1) {
-				M = pieces[i].move(curr);	
-
-				for (int j=0; j<M.length; j++) {
-					if (M[j] != -1) {
-
-						BitMap temp = new BitMap(curr, i, M[j]);
-						//When generating its own moves the CPU does not inlcude those that put itself into check
-						if (turn != 16 || !temp.examine(31, pieces)) { 
-
-							GameState child = new GameState(temp, start.getDepth()+1, i, M[j]); 
-							start.setChild(child);
-							treeDepth = Math.max(child.getDepth(), treeDepth);
-							if (child.getDepth() < limit) 
-								generateGameTree(child, (turn+16)%32, limit);		
-						}
-					}	
-				}
-			}
-		}
-
-		curr = null;
-	}
-
-
-
-	/*
-		alphaBetaSearch(GameState node, boolean maxPlayer, double alpha, double beta) - Starting at a tree
-		rooted at node conducts an alpha-beta search where at each level, maxPlayer determines whether or
-		not the CPU's moves are being searched and the alpha/beta values represent bounds on currently 
-		acquired values to avoid searching every node of the tree.
-	*/
-	public GameState alphaBetaSearch(GameState node, boolean maxPlayer, double alpha, double beta) {
-		//Terminal node, get static evaluation
-		if (node.getNumChildren() == 0) {
-			node.setEval(evaluator.evaluateState(node.getBoard()));
-			return node;
-		}	
-
-		//node must acquire the highest valued child
-		if (maxPlayer) {
-			node.setEval(Double.NEGATIVE_INFINITY);
-
-			for (GameState S : node.getChildren()) {
-				node.setEval(Math.max(node.getEval(), (alphaBetaSearch(S, false, alpha, beta)).getEval()));
-				alpha = Math.max(alpha, node.getEval());
-				if (alpha >= beta)
-					break;
-			}
-
-		//node must acquire lowest valued child
-		} else {
-			node.setEval(Double.POSITIVE_INFINITY);
-
-			for (GameState S : node.getChildren()) {
-				node.setEval(Math.min(node.getEval(),(alphaBetaSearch(S, true, alpha, beta)).getEval()));
-				beta = Math.min(beta, node.getEval());
-				if (alpha >= beta)
-					break;
-			}
-		}	
-
-		return node;
-	}
-
-
-	/*
-		getNextMove(Chessboard C) - Initiates procedures to generate a tree rooted at a GameState with
-		the given Chessboard C as its BitMap then searches the tree to find the best next move. The int
-		array returned has the ID of the Piece to move in index 0 and the ID of the Tile to move it to
-		in index 1. 
-	*/
-	public int[] getNextMove(Chessboard C) {
-
-		//Look for any promoted Pawns
-		for (int i=0; i<8; i++) 
-			if (C.fetchPiece(i) != null && C.fetchTileOfPiece(i).getID() < 8)
-				pieces[i] = C.fetchPiece(i);
-				
-		//Update special piece conditions and assign head of tree
-		BitMap B = new BitMap(C, last);
-		B.updateBoardScan();
-		head = new GameState(new BitMap(C, last), 0, -1, -1);	
-		
-		//Clean up any leftover nodes from prior generations
-		System.gc();
-		
-		/*
-		Generate the tree. Can be done serially with the generateGameTree method or in parallel by
-		invoking a TreeGenerator task. Only one should be executed.
-		*/
-		//generateGameTree(head, 16, 4);
-		mainPool.invoke(new TreeGenerator(true, null, 4));
-		
-		/*
-		Search the tree. Can be done serially with the alphaBetaSearch method or in parallel by
-		invoking a TreeSearcher task. Only one should be executed.
-		*/
-		//alphaBetaSearch(head, true, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
-		mainPool.invoke(new TreeSearcher(head, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false));
-		
-		//Acquire the highest valued child of the root
-		GameState max = head.getChild(0);
-
-		for (GameState G : head.getChildren()) 
-			if (G.getEval() > max.getEval()) 
-				max = G;
-		
-		last = max.getBoard().getSpecs();
-		return max.getMove();				
-	}
-	
+/*
+	GameTree.java
+	
+	Date of Creation: Oct 20, 2018
+	Date of last modification: Oct 18, 2026
+	
+	Author: Justin Underhay
+*/
+
+/*
+	GameTree.java represents the game tree generated and searched by the computer when the PlayChess file is executed.
+	When PlayChess is executing and the user decides to play against the computer, the computer's moves are decided by
+	examining the current state of the board and generating all possible moves for an arbitrary number of turns with each
+	turn being one level in the tree. Each board state at the bottom of the tree is evaluated using Evaluate.java based
+	on its favorability and the scores are propogated up the tree with the computer choosing its highest scoring child.
+	
+	The game tree can be generated and searched in two different ways, in a serial iterative manner or in a parallel manner. The parallel
+	method attempts to improve over the serial one by splitting work among ForkJoin tasks and invoking them via a ForkJoinPool.
+	The search algorithm is the alpha-beta pruning method. 
+
+	By default getNextMove does not build the tree at all. A depth first negamax search generates the moves of each
+	position as it reaches it, searches them and forgets them, so memory grows with the depth of the search rather
+	than the size of the tree and pruned subtrees are never generated. The first move at the root is searched to set
+	a bound, then the remaining root moves are searched in parallel by SearchWorker tasks. Scores are integers in
+	hundredths of Evaluate's units, taken from the point of view of the side to move.
+
+	The depth first search is deepened one move at a time until a time or node budget runs out, so that the computer
+	thinks for about as long in a quiet endgame as in a sharp middlegame rather than for a fixed number of moves.
+
+	The depth first search has two parallel modes. ROOT_SPLIT, the default, hands the root moves to SearchWorker tasks as
+	above. LAZY_SMP instead searches the root moves in this thread while a SearchHelper on every other thread of the
+	pool runs its own iterative deepening of the same position. The threads share nothing but the TranspositionTable,
+	which every one of them reads and writes without locks, so each gains from the positions the others have already
+	settled and no thread ever waits on another.
+
+	Data members:
+		head - GameState	 - The head of this GameTree.
+		root - BitBoard		 - The position at the head. Every other position in the tree is reached by making the moves
+								on the path to it from a copy of root and taking them back again afterwards.
+		treeDepth - int		 - The depth of this GameTree.
+		last - int			 - Integer representing special conditions of pieces in the head's BitBoard.
+		evaluator - Evaluate - Class used to calculate static evaluation values of BitBoards.
+
+		timeLimit - long		 - Milliseconds the depth first search may spend on a move.
+		nodeLimit - long		 - Nodes the depth first search may visit for a move, 0 for no limit.
+		deadline - long			 - Time the current search must stop by.
+		activeNodeLimit - long	 - Node limit of the current search, 0 for none.
+		nodeCount - ThreadLocal<AtomicLong> - Nodes visited by the current search on each thread. Only the owning thread
+								writes its count, so the threads never contend over one shared counter.
+		nodeCounts - List<AtomicLong>	 - The count of every thread that has searched, summed for the node limit and
+								getNodes.
+		stopped - boolean		 - Set once the current search has run out of budget, making every thread unwind.
+		stoppable - boolean		 - Whether the budget applies to the iteration being searched.
+		completedDepth - int	 - Depth of the last iteration to complete.
+		table - TranspositionTable - Results of positions already searched, shared by every thread and kept between moves.
+		pool - ForkJoinPool		 - Pool the parallel searches of this GameTree run on, the shared mainPool unless set otherwise.
+		parallelMode - int		 - How the depth first search is split among threads, ROOT_SPLIT or LAZY_SMP.
+		searchId - int			 - ID of the current search, telling each thread's MoveOrdering when to age its tables.
+		nullMovePruning - boolean	 - Whether the depth first search tries null moves.
+		lateMoveReductions - boolean - Whether the depth first search reduces late quiet moves.
+		futilityPruning - boolean	 - Whether the depth first search prunes by futility and razoring near the horizon.
+
+*/
+
+
+import java.lang.Double;
+import java.lang.Math;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+public class GameTree {
+	
+	//The ForkJoin thread pool used for parallel execution of game tree generation and searching.
+	private static final ForkJoinPool mainPool = new ForkJoinPool();
+
+	//The deepest level any tree may reach, which bounds the number of move buffers each thread needs.
+	public static final int MAX_DEPTH = 64;
+
+	//The number of levels the tree is built to for each move.
+	private static final int SEARCH_DEPTH = 4;
+
+	//The deepest iteration of the depth first search, leaving room in the move buffers for deeper lines below it.
+	private static final int MAX_SEARCH_DEPTH = MAX_DEPTH/2;
+
+	//Default budget for each move, in milliseconds.
+	private static final long DEFAULT_TIME = 2000;
+
+	//Number of iterations in a row the best move must survive to be considered stable.
+	private static final int STABLE_ITERATIONS = 4;
+
+	//Nodes searched between checks of the clock, a power of two.
+	private static final int CHECK_INTERVAL = 1024;
+
+	/*
+		Value of a checkmate, far beyond any material count so a forced mate outweighs everything else. A side mated ply
+		moves from the root scores -(MATE - ply), so a nearer mate is preferred to a further one and a further loss to a
+		nearer one. Every score at least MATE_BOUND from zero is a mate.
+	*/
+	private static final int MATE = 30000;
+	private static final int MATE_BOUND = MATE - MAX_DEPTH;
+
+	//Largest static evaluation, in hundredths, below every mate score.
+	private static final int MAX_EVAL = MATE - 2*MAX_DEPTH;
+
+	//Bound beyond any score the search can return, small enough for the 16 bit scores of the TranspositionTable.
+	private static final int INFINITY = 32000;
+
+	//Depth from which each iteration is searched with an aspiration window around the last score.
+	private static final int ASPIRATION_DEPTH = 4;
+
+	//Half the width of the first aspiration window, in hundredths. A Pawn is 250.
+	private static final int ASPIRATION_WINDOW = 100;
+
+	//Least depth at which a null move is tried.
+	private static final int NULL_MOVE_DEPTH = 2;
+
+	//Least depth at which late moves are reduced, and how many moves of a node are searched before any is reduced.
+	private static final int LMR_DEPTH = 3;
+	private static final int LMR_MOVES = 3;
+
+	//Late move reduction by depth and move number, growing slowly with both.
+	private static final int[][] REDUCTIONS = new int[MAX_DEPTH][Move.MAX_MOVES];
+
+	static {
+		for (int d=1; d<MAX_DEPTH; d++)
+			for (int m=1; m<Move.MAX_MOVES; m++)
+				REDUCTIONS[d][m] = (int) (0.5 + Math.log(d) * Math.log(m) / 2.5);
+	}
+
+	/*
+		Futility margins in hundredths by remaining depth, 1 or 2, taken from Evaluate's piece values. A quiet move changes
+		the evaluation by no more than its positioning table does, less than a Knight, so a node more than a Knight short
+		of alpha one move from the horizon, or a Rook two moves from it, gains nothing from its quiet moves. The same
+		margins above beta let a node fail high at once.
+	*/
+	private static final int[] FUTILITY_MARGINS = {0, pieceValue(BitBoard.KNIGHT), pieceValue(BitBoard.ROOK)};
+
+	//Razoring at three moves from the horizon drops to the quiescence search when a Queen short of alpha.
+	private static final int RAZOR_DEPTH = 3;
+	private static final int RAZOR_MARGIN = pieceValue(BitBoard.QUEEN);
+
+	//Default size of the TranspositionTable in megabytes.
+	private static final int DEFAULT_HASH = 16;
+
+	//Nodes fewer than this many levels above the leaves of the GameState tree are searched serially.
+	private static final int SPLIT_DEPTH = 2;
+
+	//Parallel modes of the depth first search
+	public static final int ROOT_SPLIT = 0;
+	public static final int LAZY_SMP = 1;
+
+	/*
+		Move buffers for each thread, one per tree level. Generating the children of a node at depth d fills buffer d,
+		which stays untouched while the children are expanded into buffers d+1 and deeper, so no thread ever allocates
+		a move list.
+	*/
+	private static final ThreadLocal<int[][]> moveBuffers = new ThreadLocal<int[][]>() {
+		protected int[][] initialValue() {
+			return new int[MAX_DEPTH][Move.MAX_MOVES];
+		}
+	};
+
+	//Move ordering heuristics for each thread, learned by its searches and used by its MovePickers.
+	private static final ThreadLocal<MoveOrdering> orderings = new ThreadLocal<MoveOrdering>() {
+		protected MoveOrdering initialValue() {
+			return new MoveOrdering();
+		}
+	};
+
+	//Counts the searches of every GameTree, giving each its own ID.
+	private static final AtomicInteger searches = new AtomicInteger();
+
+	//MovePickers for each thread, one per tree level, handing out the moves written into the buffer of the same level.
+	private static final ThreadLocal<MovePicker[]> movePickers = new ThreadLocal<MovePicker[]>() {
+		protected MovePicker[] initialValue() {
+			MovePicker[] pickers = new MovePicker[MAX_DEPTH];
+			for (int i=0; i<MAX_DEPTH; i++)
+				pickers[i] = new MovePicker();
+			return pickers;
+		}
+	};
+
+	/*
+		TreeGenerator is the ForkJoinTask subclass created and invoked to generate the game tree in parallel.
+		A TreeGenerator task invoked with the init member set to true will generate the first level of the 
+		tree serially, then split those nodes as equally as possible among n groups where n is the number
+		of processors available to the JVM. n new tasks are then invoked with each one responsible for generating
+		portions of the tree that extend the nodes given to it by using the generateGameTree method. 
+	*/
+	class TreeGenerator extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private boolean init;
+		private int limit;
+		private List<GameState> nodes;
+
+		TreeGenerator(boolean i, List<GameState> N, int l) {
+			this.init = i;
+			this.nodes =  N;
+			this.limit = l;
+		}
+
+
+		protected void compute() {
+			if (init) {
+
+				//Generate the first level of the tree, captures first
+				MovePicker picker = movePickers.get()[0];
+				picker.init(root, Move.NONE, moveBuffers.get()[0], orderings.get(), 0);
+
+				for (int M = picker.next(); M != Move.NONE; M = picker.next()) {
+					head.setChild(new GameState(1, M));
+					treeDepth = 1;	
+				}
+
+				if (treeDepth < limit) {
+
+					//Split head children into groups then invoke tasks
+					int numProcessors = Runtime.getRuntime().availableProcessors();
+					ArrayList<GameState> HC = head.getChildren();
+					List<TreeGenerator> tasks = new ArrayList<TreeGenerator>();
+
+					//Not evenly divisible, split as equally as possible
+					if (HC.size() % numProcessors != 0) {
+
+						if (HC.size() < numProcessors) {
+							for (int i=0; i<HC.size(); i++)
+								tasks.add(new TreeGenerator(false, HC.subList(i, i+1), limit));
+
+						} else {
+
+							int amt = (HC.size()-HC.size()%numProcessors)/numProcessors;
+
+							for (int i=0; i<numProcessors; i++) 
+								tasks.add(new TreeGenerator(false, HC.subList(i*amt, amt*(i+1)), limit));
+
+							tasks.add(new TreeGenerator(false, HC.subList(amt*numProcessors, HC.size()), limit));	
+						}
+
+					//Evenly divisible	
+					} else {
+						
+						int amt = HC.size()/numProcessors;
+
+						for (int i=0; i<numProcessors; i++) 
+							tasks.add(new TreeGenerator(false, HC.subList(i*amt, amt*(i+1)), limit));
+					}	
+
+					//Invoke the tasks
+					invokeAll(tasks);
+				}
+
+			} else {
+
+				BitBoard pos = new BitBoard(root);
+
+				for (GameState G : nodes) {
+					pos.makeMove(G.getMove());
+					generateGameTree(G, pos, limit);
+					pos.unmakeMove();
+				}
+			}
+		}
+	}
+
+
+	/*
+		SplitPoint is the state shared by the tasks searching the younger children of one node of the GameState tree in
+		parallel. The best value found so far among the node's children is kept in an AtomicLong holding the bits of a
+		double, so every sibling reads the bound already raised, or lowered, by the siblings that finished before it, both
+		when it starts and again before each child it searches, at every depth below. The bounds of a node hold for the
+		whole tree below it, so a search also takes in those of every split point above. Once the best value passes the
+		far side of the window the node is refuted and the split point is marked cut off. Siblings not yet started then
+		return at once, and those already running stop at their next child, as do all searches below them, since a split
+		point is cut off whenever one above it is.
+	*/
+	static class SplitPoint {
+		private SplitPoint parent;
+		private boolean maxPlayer;
+		private double alpha, beta;
+		private AtomicLong best;
+		private volatile boolean cutoff;
+
+		SplitPoint(SplitPoint P, boolean max, double A, double B, double first) {
+			this.parent = P;
+			this.maxPlayer = max;
+			this.alpha = A;
+			this.beta = B;
+			this.best = new AtomicLong(Double.doubleToLongBits(first));
+		}
+
+
+		double getBest() {
+			return Double.longBitsToDouble(best.get());
+		}
+
+
+		//Lower bound of the window for a child starting its search now
+		double getAlpha() {
+			return maxPlayer ? Math.max(alpha, getBest()) : alpha;
+		}
+
+
+		//Upper bound of the window for a child starting its search now
+		double getBeta() {
+			return maxPlayer ? beta : Math.min(beta, getBest());
+		}
+
+
+		//Raises a lower bound to the tightest one this split point and those above it give
+		double tightenAlpha(double a) {
+			for (SplitPoint S = this; S != null; S = S.parent)
+				a = Math.max(a, S.getAlpha());
+
+			return a;
+		}
+
+
+		//Lowers an upper bound to the tightest one this split point and those above it give
+		double tightenBeta(double b) {
+			for (SplitPoint S = this; S != null; S = S.parent)
+				b = Math.min(b, S.getBeta());
+
+			return b;
+		}
+
+
+		boolean isCutoff() {
+			for (SplitPoint S = this; S != null; S = S.parent)
+				if (S.cutoff)
+					return true;
+
+			return false;
+		}
+
+
+		//Records the value of a child, cutting off the split point and returning true if the child refutes it
+		boolean update(double value) {
+			long current = best.get();
+
+			while (maxPlayer ? value > Double.longBitsToDouble(current) : value < Double.longBitsToDouble(current)) {
+				if (best.compareAndSet(current, Double.doubleToLongBits(value)))
+					break;
+				current = best.get();
+			}
+
+			if (maxPlayer ? getBest() >= beta : getBest() <= alpha)
+				cutoff = true;
+
+			return maxPlayer ? value >= beta : value <= alpha;
+		}
+	}
+
+
+	/*
+		TreeSearcher is the ForkJoinTask subclass created and invoked to search the game tree in parallel.
+		A parallel alpha-beta pruning search is used, specifically the Young Brothers Wait Concept where at
+		any unsearched node the leftmost subtree is searched completely first to establish a bound used
+		in a parallel search of all remaining subtrees using one task per subtree (see parallelSearch).
+		A TreeSearcher without a SplitPoint searches the head from the position in pos. Otherwise it searches
+		one younger child of the split point's node, pos holding the position at that node, and makes its own
+		copy to play the child's move on only once it knows the node has not been refuted in the meantime.
+	*/
+	class TreeSearcher extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private GameState top;
+		private BitBoard pos;
+		private boolean maxPlayer;
+		private SplitPoint split;
+		
+
+		public TreeSearcher(GameState G, BitBoard P, boolean max, SplitPoint S) {
+			this.top = G;
+			this.pos = P;
+			this.maxPlayer = max;
+			this.split = S;
+		}
+
+
+		protected void compute() {
+			orderings.get().newSearch(searchId);
+
+			if (split == null) {
+				parallelSearch(top, pos, maxPlayer, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, null);
+				return;
+			}
+
+			//Refuted before this sibling started
+			if (split.isCutoff())
+				return;
+
+			BitBoard next = new BitBoard(pos);
+			next.makeMove(top.getMove());
+			parallelSearch(top, next, maxPlayer, split.getAlpha(), split.getBeta(), split);
+
+			//The value of a search stopped part way is meaningless
+			if (!split.isCutoff() && split.update(top.getEval()))
+				recordCutoff(pos, top.getMove(), top.getDepth()-1);
+		}
+	}
+
+
+	
+
+	/*
+		SearchWorker is the ForkJoinTask subclass that searches one root move with the depth first negamax search.
+		It owns its BitBoard, a copy of the root position, and leaves the score of the move from the computer's point
+		of view in score. 
+	*/
+	class SearchWorker extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private BitBoard pos;
+		private int move, depth, alpha, beta;
+		private int score;
+
+		SearchWorker(BitBoard P, int M, int D, int A, int B) {
+			this.pos = P;
+			this.move = M;
+			this.depth = D;
+			this.alpha = A;
+			this.beta = B;
+		}
+
+
+		protected void compute() {
+			orderings.get().newSearch(searchId);
+			pos.makeMove(move);
+			score = -negamax(pos, depth-1, 1, -beta, -alpha);
+			pos.unmakeMove();
+		}
+	}
+
+
+
+	/*
+		RootSplit is the ForkJoinTask subclass that runs the SearchWorkers of one iteration. The search is driven from a
+		thread outside the pool, and invoking the workers from there would run them on the common pool, so they are
+		handed to the GameTree's pool inside this task instead.
+	*/
+	class RootSplit extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private List<SearchWorker> workers;
+
+		RootSplit(List<SearchWorker> W) {
+			this.workers = W;
+		}
+
+
+		protected void compute() {
+			invokeAll(workers);
+		}
+	}
+
+
+
+	/*
+		SearchHelper is the ForkJoinTask subclass run on each extra thread of a Lazy SMP search. It deepens its own copy of
+		the root position one move at a time until the search is stopped, filling the shared TranspositionTable as it goes.
+		Helpers start on alternate depths and with the root moves rotated by their id, so that they spread out over the
+		tree rather than all searching the same nodes in step with the main thread.
+	*/
+	class SearchHelper extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private int id;
+		private BitBoard pos;
+		private int[] moves;
+		private int n;
+
+		//Copies root and its moves here, on the calling thread, before the main thread starts making moves on root
+		SearchHelper(int id, int[] rootMoves, int n) {
+			this.id = id;
+			this.pos = new BitBoard(root);
+			this.n = n;
+			this.moves = new int[n];
+
+			for (int i=0; i<n; i++)
+				moves[i] = rootMoves[(i + id) % n];
+		}
+
+
+		protected void compute() {
+			int[] scores = new int[n];
+			orderings.get().newSearch(searchId);
+
+			for (int depth = 1 + (id & 1); depth <= MAX_SEARCH_DEPTH && !stopped; depth++)
+				searchRootSerial(pos, moves, scores, n, depth, -INFINITY, INFINITY);
+		}
+	}
+
+	
+
+	private GameState head;
+	private BitBoard root;
+	private int treeDepth;
+	private int last;
+	private Evaluate evaluator;
+
+	private long timeLimit;
+	private long nodeLimit;
+	private long deadline;
+	private long activeNodeLimit;
+	private ThreadLocal<AtomicLong> nodeCount;
+	private List<AtomicLong> nodeCounts;
+	private volatile boolean stopped;
+	private volatile boolean stoppable;
+	private int completedDepth;
+	private TranspositionTable table;
+	private ForkJoinPool pool;
+	private int parallelMode;
+	private volatile int searchId;
+	private boolean nullMovePruning;
+	private boolean lateMoveReductions;
+	private boolean futilityPruning;
+	
+	
+	public GameTree() {
+
+		treeDepth = 0;
+		last = -1;
+		evaluator = new Evaluate();
+		timeLimit = DEFAULT_TIME;
+		nodeLimit = 0;
+		nodeCounts = new CopyOnWriteArrayList<AtomicLong>();
+		nodeCount = new ThreadLocal<AtomicLong>() {
+			protected AtomicLong initialValue() {
+				AtomicLong count = new AtomicLong();
+				nodeCounts.add(count);
+				return count;
+			}
+		};
+		table = new TranspositionTable(DEFAULT_HASH);
+		pool = mainPool;
+		parallelMode = ROOT_SPLIT;
+		nullMovePruning = true;
+		lateMoveReductions = true;
+		futilityPruning = true;
+	}	
+
+
+	/*
+		getPool() - Returns the ForkJoinPool shared by every GameTree, so other parallel work such as Perft runs on the
+		same threads as the search.
+	*/
+	public static ForkJoinPool getPool() {
+		return mainPool;
+	}
+
+
+	/*
+		getHead() - Returns the head member of this GameTree.
+	*/
+	public GameState getHead() {
+		return head;
+	}
+	
+	
+	/*
+		generateGameTree(GameState start, BitBoard pos, int limit) - Builds the game tree rooted at start
+		where pos holds the position at start, and is left that way on return. The limit integer specifies
+		the max depth to build the tree to. Children are added captures first, which is the order the
+		searches visit them in, so the moves most likely to raise alpha or beta are searched first. 
+	*/
+	public void generateGameTree(GameState start, BitBoard pos, int limit) {
+		MovePicker picker = movePickers.get()[start.getDepth()];
+		picker.init(pos, Move.NONE, moveBuffers.get()[start.getDepth()], orderings.get(), start.getDepth());
+		
+		//Only legal moves are generated, for both colors
+		for (int M = picker.next(); M != Move.NONE; M = picker.next()) {
+
+			GameState child = new GameState(start.getDepth()+1, M); 
+			start.setChild(child);
+			treeDepth = Math.max(child.getDepth(), treeDepth);
+
+			if (child.getDepth() < limit) {
+				pos.makeMove(M);
+				generateGameTree(child, pos, limit);		
+				pos.unmakeMove();
+			}
+		}
+	}
+
+
+
+	/*
+		leafValue(GameState node, BitBoard pos) - Returns the value of a node with no children whose position is held in pos.
+		A node above the depth limit has no children only when the side to move has no legal moves, which is checkmate if
+		its King is attacked and stalemate otherwise, a mate scoring less the deeper it is. Any other leaf is valued by
+		the quiescence search, so that a leaf in the middle of an exchange is not judged before it plays out.
+	*/
+	private double leafValue(GameState node, BitBoard pos) {
+
+		if (node.getDepth() < SEARCH_DEPTH) {
+			int side = pos.getSide();
+			int K = Long.numberOfTrailingZeros(pos.getPieces(side, BitBoard.KING));
+
+			if (!pos.isSquareAttacked(K, 1 - side))
+				return 0;
+
+			return (side == BitBoard.BLACK) ? -(MATE - node.getDepth()) : MATE - node.getDepth();
+		}
+
+		int score = quiescence(pos, node.getDepth(), -INFINITY, INFINITY);
+		double value = (Math.abs(score) >= MATE_BOUND) ? score : score / 100.0;
+		return (pos.getSide() == BitBoard.BLACK) ? value : -value;
+	}
+
+
+	/*
+		alphaBetaSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta) - Starting at a tree
+		rooted at node, whose position is held in pos, conducts an alpha-beta search where at each level, maxPlayer determines whether or
+		not the CPU's moves are being searched and the alpha/beta values represent bounds on currently 
+		acquired values to avoid searching every node of the tree.
+	*/
+	public GameState alphaBetaSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta) {
+		return alphaBetaSearch(node, pos, maxPlayer, alpha, beta, null);
+	}
+
+
+	/*
+		alphaBetaSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta, SplitPoint split) - As
+		above, giving up as soon as split is cut off, if it is not null. The value left in node is then meaningless.
+		Before each child the window is narrowed to the bounds the siblings running under split have found so far.
+	*/
+	private GameState alphaBetaSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta, SplitPoint split) {
+		//Terminal node, get static evaluation
+		if (node.getNumChildren() == 0) {
+			node.setEval(leafValue(node, pos));
+			return node;
+		}	
+
+		//node must acquire the highest valued child
+		if (maxPlayer) {
+			node.setEval(Double.NEGATIVE_INFINITY);
+
+			for (GameState S : node.getChildren()) {
+				if (split != null) {
+					alpha = split.tightenAlpha(alpha);
+					beta = split.tightenBeta(beta);
+				}
+
+				pos.makeMove(S.getMove());
+				node.setEval(Math.max(node.getEval(), (alphaBetaSearch(S, pos, false, alpha, beta, split)).getEval()));
+				pos.unmakeMove();
+				alpha = Math.max(alpha, node.getEval());
+				if (alpha >= beta) {
+					recordCutoff(pos, S.getMove(), node.getDepth());
+					break;
+				}
+				if (split != null && split.isCutoff())
+					break;
+			}
+
+		//node must acquire lowest valued child
+		} else {
+			node.setEval(Double.POSITIVE_INFINITY);
+
+			for (GameState S : node.getChildren()) {
+				if (split != null) {
+					alpha = split.tightenAlpha(alpha);
+					beta = split.tightenBeta(beta);
+				}
+
+				pos.makeMove(S.getMove());
+				node.setEval(Math.min(node.getEval(),(alphaBetaSearch(S, pos, true, alpha, beta, split)).getEval()));
+				pos.unmakeMove();
+				beta = Math.min(beta, node.getEval());
+				if (alpha >= beta) {
+					recordCutoff(pos, S.getMove(), node.getDepth());
+					break;
+				}
+				if (split != null && split.isCutoff())
+					break;
+			}
+		}	
+
+		return node;
+	}
+
+
+	/*
+		parallelSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta, SplitPoint above) - Searches
+		the tree rooted at node as alphaBetaSearch does, splitting the work among tasks. The eldest child is searched first
+		in this thread. Unless it refutes node, the younger children are then searched in parallel by TreeSearcher tasks
+		sharing a new SplitPoint, each starting with the window narrowed by the siblings done so far. above is the split
+		point node was reached under, null at the head, and the search gives up as soon as it is cut off. Nodes near the
+		leaves are not worth a task per child and are searched serially.
+	*/
+	private void parallelSearch(GameState node, BitBoard pos, boolean maxPlayer, double alpha, double beta, SplitPoint above) {
+
+		if (node.getNumChildren() == 0 || treeDepth - node.getDepth() < SPLIT_DEPTH) {
+			alphaBetaSearch(node, pos, maxPlayer, alpha, beta, above);
+			return;
+		}
+
+		//Search the eldest child to establish a bound
+		GameState eldest = node.getChild(0);
+		pos.makeMove(eldest.getMove());
+		parallelSearch(eldest, pos, !maxPlayer, alpha, beta, above);
+		pos.unmakeMove();
+		node.setEval(eldest.getEval());
+
+		if (above != null && above.isCutoff())
+			return;
+
+		//Take in what the siblings running under above have found while the eldest was searched
+		if (above != null) {
+			alpha = above.tightenAlpha(alpha);
+			beta = above.tightenBeta(beta);
+		}
+
+		if (maxPlayer ? node.getEval() >= beta : node.getEval() <= alpha) {
+			recordCutoff(pos, eldest.getMove(), node.getDepth());
+			return;
+		}
+
+		if (node.getNumChildren() == 1)
+			return;
+
+		//Search the younger children in parallel, pos stays as it is until they are all done
+		SplitPoint S = new SplitPoint(above, maxPlayer, alpha, beta, node.getEval());
+		ArrayList<TreeSearcher> tasks = new ArrayList<TreeSearcher>(node.getNumChildren()-1);
+		for (int i=1; i<node.getNumChildren(); i++)
+			tasks.add(new TreeSearcher(node.getChild(i), pos, !maxPlayer, S));
+
+		ForkJoinTask.invokeAll(tasks);
+		node.setEval(S.getBest());
+	}
+
+
+	/*
+		recordCutoff(BitBoard pos, int move, int ply) - Records in this thread's MoveOrdering that move caused a cutoff in
+		the GameState tree at the node ply levels below the head, whose position is held in pos, if it is a quiet move.
+		The tree is searched in the order it was built, so what is learned here orders the tree built for the next move.
+	*/
+	private void recordCutoff(BitBoard pos, int move, int ply) {
+
+		if (!Move.isCapture(move) && !Move.isPromotion(move))
+			orderings.get().update(pos, move, treeDepth - ply, ply);
+	}
+
+
+	/*
+		negamax(BitBoard pos, int depth, int ply, int alpha, int beta) - Searches the position in pos depth moves deep and
+		returns its score for the side to move, leaving pos unchanged. ply is the distance from the root, which selects the
+		move buffer and MovePicker of this thread to use. Moves are generated a stage at a time, so a cutoff by an early
+		capture skips generating the quiet moves.
+
+		The TranspositionTable is probed first. An entry searched at least as deep settles the node if its score is exact
+		or its bound already falls outside the window, and otherwise its best move is tried first. The result is stored
+		with its bound type: an upper bound if no move raised alpha, a lower bound if a move reached beta.
+
+		Moves are searched as a principal variation search. The first move, most likely the best, is searched with the
+		full window and every later one with a null window around alpha, which only asks whether it is better. Proving
+		that it is not is much cheaper than finding its score, and only a move that turns out better is searched again
+		with the full window.
+
+		The MovePicker hands out the moves best first as far as MoveOrdering can tell, and a quiet move that causes a beta
+		cutoff is recorded there as a killer, a counter move and in the history, to be tried early at later nodes.
+
+		Two kinds of pruning, each of which can be turned off, keep the search from spending the full depth where it is
+		unlikely to matter: a null move lets a node already at beta fail high after a reduced search, and quiet moves
+		ordered late are searched shallower unless they turn out to beat alpha. Within three moves of the horizon, nodes
+		whose static evaluation is far outside the window are settled by it, or by the quiescence search, and quiet moves
+		that could not bring the evaluation back up to alpha are skipped, see FUTILITY_MARGINS.
+
+		A node with no legal moves is checkmate or stalemate, scored by its distance from the root or as a draw. Since no
+		score at this ply can beat being mated here or mating on the next move, a node whose window lies outside those
+		bounds is settled without searching it (mate distance pruning). A move that gives check is searched a move deeper
+		than the others (a check extension), so that a forcing line plays out to its end instead of stopping at the
+		horizon with the King still attacked.
+	*/
+	public int negamax(BitBoard pos, int depth, int ply, int alpha, int beta) {
+
+		if (depth == 0)
+			return quiescence(pos, ply, alpha, beta);
+
+		//A stopped search unwinds at once, its result is thrown away
+		if (countNode())
+			return 0;
+
+		//Mate distance pruning
+		alpha = Math.max(alpha, -(MATE - ply));
+		beta = Math.min(beta, MATE - ply - 1);
+		if (alpha >= beta)
+			return alpha;
+
+		long key = pos.getHash();
+		long entry = table.probe(key);
+		int hashMove = Move.NONE;
+
+		if (entry != 0) {
+			hashMove = TranspositionTable.getMove(entry);
+
+			if (TranspositionTable.getDepth(entry) >= depth) {
+				int score = fromTable(TranspositionTable.getScore(entry), ply);
+				int bound = TranspositionTable.getBound(entry);
+
+				if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER && score >= beta)
+						|| (bound == TranspositionTable.UPPER && score <= alpha))
+					return score;
+			}
+		}
+
+		int side = pos.getSide();
+		boolean inCheck = pos.isSquareAttacked(Long.numberOfTrailingZeros(pos.getPieces(side, BitBoard.KING)), 1 - side);
+
+		//Pruning is only done in null window nodes, where the search only asks whether a node beats a bound
+		boolean prune = futilityPruning && !inCheck && beta - alpha == 1 && Math.abs(beta) < MAX_EVAL;
+		int staticEval = (!inCheck && (prune || nullMovePruning)) ? evaluate(pos) : -INFINITY;
+
+		//Reverse futility. So far above beta that no reply is likely to bring it back down
+		if (prune && depth < FUTILITY_MARGINS.length && staticEval - FUTILITY_MARGINS[depth] >= beta)
+			return staticEval - FUTILITY_MARGINS[depth];
+
+		//Razoring. So far below alpha that only a capture could help, so only the captures are searched
+		if (prune && depth == RAZOR_DEPTH && staticEval + RAZOR_MARGIN <= alpha) {
+			int score = quiescence(pos, ply, alpha, beta);
+			if (score <= alpha)
+				return score;
+		}
+
+		//Futility. Too far below alpha for a quiet move to help, so only the first move and those that capture or check are searched
+		boolean futile = prune && depth < FUTILITY_MARGINS.length && staticEval + FUTILITY_MARGINS[depth] <= alpha;
+
+		/*
+		Null move. If the side to move is already at beta and could pass the turn and still be at beta after a reduced
+		search, a real move would almost surely do better, so the node fails high without searching any. Passing is
+		never allowed twice in a row, in check, or with only Pawns left, where zugzwang makes passing the best move.
+		*/
+		if (nullMovePruning && depth >= NULL_MOVE_DEPTH && !inCheck && beta < MAX_EVAL && pos.getLastMove() != Move.NONE
+				&& hasPieces(pos, side) && staticEval >= beta) {
+
+			pos.makeNullMove();
+			int score = -negamax(pos, Math.max(depth - 1 - nullMoveReduction(depth), 0), ply+1, -beta, -beta+1);
+			pos.unmakeMove();
+
+			if (stopped)
+				return 0;
+
+			//A mate found after passing is not to be trusted
+			if (score >= beta)
+				return (score >= MAX_EVAL) ? beta : score;
+		}
+
+		MoveOrdering ordering = orderings.get();
+		MovePicker picker = movePickers.get()[ply];
+		picker.init(pos, hashMove, moveBuffers.get()[ply], ordering, ply);
+
+		int start = alpha;
+		int best = -INFINITY;
+		int bestMove = Move.NONE;
+		int legal = 0;
+
+		for (int M = picker.next(); M != Move.NONE; M = picker.next()) {
+			legal++;
+			boolean quiet = !Move.isCapture(M) && !Move.isPromotion(M);
+
+			pos.makeMove(M);
+
+			boolean late = quiet && legal > 1 && !inCheck && (futile || (lateMoveReductions && depth >= LMR_DEPTH && legal > LMR_MOVES));
+			boolean givesCheck = pos.isSquareAttacked(Long.numberOfTrailingZeros(pos.getPieces(1 - side, BitBoard.KING)), side);
+
+			if (futile && late && !givesCheck) {
+				pos.unmakeMove();
+				continue;
+			}
+
+			//Late move reduction, for quiet moves ordered late that neither escape nor give check
+			int reduction = 0;
+			if (lateMoveReductions && late && depth >= LMR_DEPTH && legal > LMR_MOVES && !givesCheck)
+				reduction = Math.min(REDUCTIONS[depth][legal], depth - 2);
+
+			//Check extension, as long as the line stays within the move buffers
+			int extension = (givesCheck && ply + depth < MAX_DEPTH - 1) ? 1 : 0;
+
+			int score = pvs(pos, depth - 1 + extension, ply+1, alpha, beta, legal == 1, reduction);
+			pos.unmakeMove();
+
+			if (score > best) {
+				best = score;
+				if (score > alpha) {
+					alpha = score;
+					bestMove = M;
+					if (alpha >= beta) {
+						if (quiet)
+							ordering.update(pos, M, depth, ply);
+						break;
+					}
+				}
+			}
+		}
+
+		//No legal moves, checkmate or stalemate
+		if (legal == 0) {
+			best = inCheck ? -(MATE - ply) : 0;
+		}
+
+		//Results of a stopped search are incomplete and must not be kept
+		if (!stopped) {
+			int bound = (best <= start) ? TranspositionTable.UPPER : (best >= beta) ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+			table.store(key, bestMove, toTable(best, ply), depth, bound);
+		}
+
+		return best;
+	}
+
+
+	/*
+		quiescence(BitBoard pos, int ply, int alpha, int beta) - Returns the score of pos for the side to move once the
+		captures in flight have played out, so a position is never judged halfway through an exchange. The side to move
+		may stand pat on the static evaluation, since it need not capture, and otherwise searches only its captures and
+		promotions, best victims first, leaving out those that lose material by static exchange evaluation. A side in
+		check may not stand pat, it searches every evasion instead and is mated if there is none.
+	*/
+	private int quiescence(BitBoard pos, int ply, int alpha, int beta) {
+
+		if (countNode())
+			return 0;
+
+		if (ply >= MAX_DEPTH-1)
+			return evaluate(pos);
+
+		int side = pos.getSide();
+		boolean inCheck = pos.isSquareAttacked(Long.numberOfTrailingZeros(pos.getPieces(side, BitBoard.KING)), 1 - side);
+		int best = -INFINITY;
+
+		//Stand pat
+		if (!inCheck) {
+			best = evaluate(pos);
+			if (best >= beta)
+				return best;
+			alpha = Math.max(alpha, best);
+		}
+
+		MovePicker picker = movePickers.get()[ply];
+		if (inCheck)
+			picker.init(pos, Move.NONE, moveBuffers.get()[ply], orderings.get(), ply);
+		else
+			picker.initCaptures(pos, moveBuffers.get()[ply], orderings.get(), ply);
+
+		int legal = 0;
+
+		for (int M = picker.next(); M != Move.NONE; M = picker.next()) {
+			legal++;
+
+			pos.makeMove(M);
+			int score = -quiescence(pos, ply+1, -beta, -alpha);
+			pos.unmakeMove();
+
+			if (score > best) {
+				best = score;
+				if (score > alpha) {
+					alpha = score;
+					if (alpha >= beta)
+						break;
+				}
+			}
+		}
+
+		//Checkmate
+		if (inCheck && legal == 0)
+			return -(MATE - ply);
+
+		return best;
+	}
+
+
+	/*
+		pvs(BitBoard pos, int depth, int ply, int alpha, int beta, boolean first) - Returns the score of the move just made
+		in pos for the side that made it, searching it depth moves deep with the window (alpha, beta) if it is the first
+		move of its node and otherwise with a null window, searched again with the full window if it beats alpha.
+	*/
+	private int pvs(BitBoard pos, int depth, int ply, int alpha, int beta, boolean first) {
+		return pvs(pos, depth, ply, alpha, beta, first, 0);
+	}
+
+
+	/*
+		pvs(BitBoard pos, int depth, int ply, int alpha, int beta, boolean first, int reduction) - As above, except that a
+		move other than the first is searched reduction moves shallower to begin with. Only if that reduced search beats
+		alpha is the move searched again to the full depth.
+	*/
+	private int pvs(BitBoard pos, int depth, int ply, int alpha, int beta, boolean first, int reduction) {
+
+		if (first)
+			return -negamax(pos, depth, ply, -beta, -alpha);
+
+		int score;
+		if (reduction > 0) {
+			score = -negamax(pos, depth - reduction, ply, -alpha-1, -alpha);
+			if (score <= alpha)
+				return score;
+		}
+
+		score = -negamax(pos, depth, ply, -alpha-1, -alpha);
+		if (score > alpha && score < beta)
+			score = -negamax(pos, depth, ply, -beta, -alpha);
+
+		return score;
+	}
+
+
+	/*
+		pieceValue(int type) - Returns Evaluate's value of a piece type in hundredths.
+	*/
+	private static int pieceValue(int type) {
+		return (int) Math.round(Evaluate.getValue(type) * 100);
+	}
+
+
+	/*
+		toTable(int score, int ply) - Returns a score found ply moves from the root as stored in the TranspositionTable. A
+		mate is stored by its distance from the position rather than from the root, since the same position can be
+		reached at a different ply later.
+	*/
+	private static int toTable(int score, int ply) {
+
+		if (score >= MATE_BOUND)
+			return score + ply;
+		if (score <= -MATE_BOUND)
+			return score - ply;
+
+		return score;
+	}
+
+
+	/*
+		fromTable(int score, int ply) - Returns a score read from the TranspositionTable ply moves from the root, undoing
+		toTable.
+	*/
+	private static int fromTable(int score, int ply) {
+
+		if (score >= MATE_BOUND)
+			return score - ply;
+		if (score <= -MATE_BOUND)
+			return score + ply;
+
+		return score;
+	}
+
+
+	/*
+		hasPieces(BitBoard pos, int side) - Returns true if the given side has a piece other than its King and Pawns, without
+		which a null move is not tried.
+	*/
+	private static boolean hasPieces(BitBoard pos, int side) {
+		return (pos.getColor(side) & ~(pos.getPieces(side, BitBoard.PAWN) | pos.getPieces(side, BitBoard.KING))) != 0;
+	}
+
+
+	/*
+		nullMoveReduction(int depth) - Returns how many moves shallower than a real move the null move is searched.
+	*/
+	private static int nullMoveReduction(int depth) {
+		return (depth >= 6) ? 3 : 2;
+	}
+
+
+	/*
+		evaluate(BitBoard pos) - Returns the static evaluation of pos in hundredths for the side to move. The evaluation is
+		kept short of the mate scores, which it can otherwise pass when a King is attacked, so that the windows around it
+		stay inside INFINITY and it fits the 16 bit scores of the TranspositionTable.
+	*/
+	private int evaluate(BitBoard pos) {
+		int score = (int) Math.round(evaluator.evaluateState(pos) * 100);
+		score = Math.max(-MAX_EVAL, Math.min(MAX_EVAL, score));
+		return (pos.getSide() == BitBoard.BLACK) ? score : -score;
+	}
+
+
+	/*
+		rootMoves(int[] moves) - Writes the legal moves of the root position into moves, captures first, and returns how
+		many there are.
+	*/
+	private int rootMoves(int[] moves) {
+		int n = 0;
+		MovePicker picker = movePickers.get()[0];
+		picker.init(root, Move.NONE, moveBuffers.get()[0], orderings.get(), 0);
+
+		for (int M = picker.next(); M != Move.NONE; M = picker.next())
+			moves[n++] = M;
+
+		return n;
+	}
+
+
+	/*
+		searchRoot(int[] moves, int[] scores, int n, int depth, int alpha, int beta) - Searches the n root moves in moves
+		depth moves deep with the window (alpha, beta) and returns the best score, which is only a bound if it falls
+		outside the window. The first move is searched alone to give a lower bound, then every other move is searched in
+		parallel with a null window around that bound. The moves that beat it are searched again in order with the full
+		window. Unless the search was stopped, the moves are then sorted best first with their scores in scores, so the
+		next iteration starts with the best move found here.
+	*/
+	private int searchRoot(int[] moves, int[] scores, int n, int depth, int alpha, int beta) {
+
+		//Search the first move to establish a bound
+		root.makeMove(moves[0]);
+		int best = -negamax(root, depth-1, 1, -beta, -alpha);
+		root.unmakeMove();
+		scores[0] = best;
+
+		if (stopped || best >= beta)
+			return best;
+
+		alpha = Math.max(alpha, best);
+		int bound = alpha;
+
+		//Search the remaining moves in parallel
+		ArrayList<SearchWorker> workers = new ArrayList<SearchWorker>(n-1);
+		for (int i=1; i<n; i++)
+			workers.add(new SearchWorker(new BitBoard(root), moves[i], depth, bound, bound+1));
+
+		pool.invoke(new RootSplit(workers));
+
+		if (stopped)
+			return best;
+
+		for (int i=1; i<n; i++) {
+			int score = workers.get(i-1).score;
+
+			//Beat the bound, find out by how much, checking first against any better move found since
+			if (score > bound && score < beta) {
+				root.makeMove(moves[i]);
+				if (alpha > bound)
+					score = -negamax(root, depth-1, 1, -alpha-1, -alpha);
+				if (score > alpha && score < beta)
+					score = -negamax(root, depth-1, 1, -beta, -alpha);
+				root.unmakeMove();
+
+				if (stopped)
+					return best;
+			}
+
+			scores[i] = score;
+			best = Math.max(best, score);
+			alpha = Math.max(alpha, score);
+
+			if (alpha >= beta) {
+				sortRoot(moves, scores, i+1);
+				return best;
+			}
+		}
+
+		sortRoot(moves, scores, n);
+		return best;
+	}
+
+
+	/*
+		searchRootSerial(BitBoard pos, int[] moves, int[] scores, int n, int depth, int alpha, int beta) - Searches the n
+		root moves in moves from the root position held in pos, one after another in this thread as a principal variation
+		search, and returns the best score as searchRoot does. Unless the search was stopped the moves are then sorted
+		best first. Every thread of a Lazy SMP search runs this.
+	*/
+	private int searchRootSerial(BitBoard pos, int[] moves, int[] scores, int n, int depth, int alpha, int beta) {
+
+		int best = -INFINITY;
+
+		for (int i=0; i<n; i++) {
+			pos.makeMove(moves[i]);
+			int score = pvs(pos, depth-1, 1, alpha, beta, i == 0);
+			pos.unmakeMove();
+
+			if (stopped)
+				return best;
+
+			scores[i] = score;
+			best = Math.max(best, score);
+			alpha = Math.max(alpha, score);
+
+			if (alpha >= beta) {
+				sortRoot(moves, scores, i+1);
+				return best;
+			}
+		}
+
+		sortRoot(moves, scores, n);
+		return best;
+	}
+
+
+	/*
+		sortRoot(int[] moves, int[] scores, int n) - Sorts the n root moves best score first. An insertion sort, stable so
+		moves that score the same keep their order.
+	*/
+	private void sortRoot(int[] moves, int[] scores, int n) {
+
+		for (int i=1; i<n; i++) {
+			int M = moves[i], S = scores[i], j = i-1;
+
+			for (; j>=0 && scores[j] < S; j--) {
+				moves[j+1] = moves[j];
+				scores[j+1] = scores[j];
+			}
+
+			moves[j+1] = M;
+			scores[j+1] = S;
+		}
+	}
+
+
+	/*
+		searchDepthFirst(int depth) - Searches root to exactly depth moves with the negamax search, ignoring the budget,
+		and returns the best move for Black, Move.NONE if there is none.
+	*/
+	public int searchDepthFirst(int depth) {
+		return search(depth, Long.MAX_VALUE, 0, false);
+	}
+
+
+	/*
+		iterativeDeepening() - Searches root until the time or node budget is spent and returns the best move of the last
+		search to complete, Move.NONE if there is none.
+	*/
+	public int iterativeDeepening() {
+		return search(MAX_SEARCH_DEPTH, System.currentTimeMillis() + timeLimit, nodeLimit, true);
+	}
+
+
+	/*
+		search(int maxDepth, long deadline, long limit, boolean budget) - Searches root one move deep, then two, three and so
+		on up to maxDepth, and returns the best move of the last search to complete. Each search starts with the moves
+		ordered by the one before, so the best move so far is searched first and sets the tightest bound.
+
+		From ASPIRATION_DEPTH on, each search is given a narrow aspiration window around the score of the one before,
+		which the score usually stays within. The narrow window prunes far more, and when the score falls outside it the
+		side it fell out of is widened, twice as far each time, and the search repeated.
+
+		If budget is set the search stops at the deadline or after limit nodes, and a search cut short is thrown away.
+		No new search is started once half the time is used, since it would likely not finish, or once a quarter is
+		used if the best move has not changed for STABLE_ITERATIONS searches.
+
+		In the LAZY_SMP mode this thread searches the root moves itself while a SearchHelper on every other thread of the
+		pool runs its own iterative deepening of the same position, until this thread is done.
+	*/
+	private int search(int maxDepth, long deadline, long limit, boolean budget) {
+
+		int[] moves = new int[Move.MAX_MOVES];
+		int[] scores = new int[Move.MAX_MOVES];
+		int n = rootMoves(moves);
+
+		//Nothing to think about with one move or none
+		if (n == 0 || (n == 1 && budget))
+			return (n == 1) ? moves[0] : Move.NONE;
+
+		long start = System.currentTimeMillis();
+		long timeLeft = deadline - start;
+		startSearch(deadline, limit);
+
+		//Start the helpers of a Lazy SMP search
+		ArrayList<SearchHelper> helpers = new ArrayList<SearchHelper>();
+		if (parallelMode == LAZY_SMP) {
+			for (int i=1; i<pool.getParallelism(); i++) {
+				SearchHelper H = new SearchHelper(i, moves, n);
+				helpers.add(H);
+				pool.execute(H);
+			}
+		}
+
+		int best = moves[0];
+		int stable = 0;
+		int score = 0;
+
+		for (int depth=1; depth<=maxDepth; depth++) {
+
+			//The first search always completes so there is a move to return
+			stoppable = budget && depth > 1;
+
+			int delta = ASPIRATION_WINDOW;
+			int alpha = -INFINITY, beta = INFINITY;
+			if (depth >= ASPIRATION_DEPTH && Math.abs(score) < MATE_BOUND) {
+				alpha = Math.max(score - delta, -INFINITY);
+				beta = Math.min(score + delta, INFINITY);
+			}
+
+			while (true) {
+				score = (parallelMode == LAZY_SMP) ? searchRootSerial(root, moves, scores, n, depth, alpha, beta) : searchRoot(moves, scores, n, depth, alpha, beta);
+
+				if (stopped)
+					break;
+
+				delta *= 2;
+				if (score <= alpha)
+					alpha = Math.max(score - delta, -INFINITY);
+				else if (score >= beta)
+					beta = Math.min(score + delta, INFINITY);
+				else
+					break;
+			}
+
+			if (stopped)
+				break;
+
+			if (moves[0] == best)
+				stable++;
+			else {
+				best = moves[0];
+				stable = 0;
+			}
+
+			long elapsed = System.currentTimeMillis() - start;
+			completedDepth = depth;
+
+			if (!budget)
+				continue;
+
+			//A mate no further away than the depth just searched will not change with more depth, one any further keeps deepening
+			if (Math.abs(score) >= MATE_BOUND && MATE - Math.abs(score) <= depth)
+				break;
+			if (Math.abs(score) >= MATE_BOUND)
+				continue;
+
+			if (elapsed > timeLeft/2 || (stable >= STABLE_ITERATIONS && elapsed > timeLeft/4))
+				break;
+
+			if (limit > 0 && getNodes() >= limit/2)
+				break;
+		}
+
+		//Stop the helpers and wait for them to finish before the root changes
+		stopped = true;
+		for (SearchHelper H : helpers)
+			H.join();
+
+		return best;
+	}
+
+
+	/*
+		startSearch(long deadline, long limit) - Resets the node count and stop flag before a search that must stop at the
+		given time in milliseconds or after limit nodes, 0 meaning no node limit.
+	*/
+	private void startSearch(long deadline, long limit) {
+		this.deadline = deadline;
+		this.activeNodeLimit = limit;
+		for (AtomicLong count : nodeCounts)
+			count.set(0);
+		stopped = false;
+		completedDepth = 0;
+		table.newSearch();
+		searchId = searches.incrementAndGet();
+		orderings.get().newSearch(searchId);
+	}
+
+
+	/*
+		countNode() - Counts a node searched on this thread and, every CHECK_INTERVAL nodes of the thread, stops the search
+		if it has gone over the time or node budget. Returns true if the search has been stopped.
+	*/
+	private boolean countNode() {
+		AtomicLong counter = nodeCount.get();
+		long count = counter.get() + 1;
+		counter.lazySet(count);
+
+		if (stoppable && (count & (CHECK_INTERVAL-1)) == 0)
+			if (System.currentTimeMillis() >= deadline || (activeNodeLimit > 0 && getNodes() >= activeNodeLimit))
+				stopped = true;
+
+		return stopped;
+	}
+
+
+	/*
+		setTimeLimit(long ms) - Sets the time in milliseconds the computer may think about each move.
+	*/
+	public void setTimeLimit(long ms) {
+		timeLimit = ms;
+	}
+
+
+	/*
+		setNodeLimit(long limit) - Sets the number of nodes the computer may search for each move, 0 for no limit.
+	*/
+	public void setNodeLimit(long limit) {
+		nodeLimit = limit;
+	}
+
+
+	/*
+		setHashSize(int megabytes) - Replaces the TranspositionTable with an empty one of the given size in megabytes.
+	*/
+	public void setHashSize(int megabytes) {
+		table = new TranspositionTable(megabytes);
+	}
+
+
+	/*
+		setParallelMode(int mode) - Sets how the depth first search is split among threads, ROOT_SPLIT or LAZY_SMP.
+	*/
+	public void setParallelMode(int mode) {
+		parallelMode = mode;
+	}
+
+
+	/*
+		setPool(ForkJoinPool P) - Sets the pool the parallel searches run on, so that they can be measured on fewer
+		threads than the shared pool has.
+	*/
+	public void setPool(ForkJoinPool P) {
+		pool = P;
+	}
+
+
+	/*
+		setNullMovePruning(boolean on) - Turns null move pruning in the depth first search on or off.
+	*/
+	public void setNullMovePruning(boolean on) {
+		nullMovePruning = on;
+	}
+
+
+	/*
+		setLateMoveReductions(boolean on) - Turns late move reductions in the depth first search on or off.
+	*/
+	public void setLateMoveReductions(boolean on) {
+		lateMoveReductions = on;
+	}
+
+
+	/*
+		setFutilityPruning(boolean on) - Turns futility pruning, reverse futility and razoring in the depth first search on
+		or off.
+	*/
+	public void setFutilityPruning(boolean on) {
+		futilityPruning = on;
+	}
+
+
+	/*
+		getNodes() - Returns the number of nodes searched for the last move, summed over every thread.
+	*/
+	public long getNodes() {
+		long total = 0;
+		for (AtomicLong count : nodeCounts)
+			total += count.get();
+		return total;
+	}
+
+
+	/*
+		getCompletedDepth() - Returns the depth of the last search to complete for the last move.
+	*/
+	public int getCompletedDepth() {
+		return completedDepth;
+	}
+
+
+	/*
+		setRoot(BitBoard B) - Sets the position searched from to B, for searching without a Chessboard as Bench does.
+	*/
+	public void setRoot(BitBoard B) {
+		root = B;
+	}
+
+
+	/*
+		buildTree() - Builds the GameState tree from root SEARCH_DEPTH levels deep.
+	*/
+	public void buildTree() {
+
+		head = new GameState(0, Move.NONE);	
+		treeDepth = 0;
+		
+		//Clean up any leftover nodes from prior generations
+		System.gc();
+		
+		/*
+		Generate the tree. Can be done serially with the generateGameTree method or in parallel by
+		invoking a TreeGenerator task. Only one should be executed.
+		*/
+		//generateGameTree(head, new BitBoard(root), SEARCH_DEPTH);
+		pool.invoke(new TreeGenerator(true, null, SEARCH_DEPTH));
+	}
+
+
+	/*
+		evaluateTree(boolean parallel) - Searches the GameState tree, serially with alphaBetaSearch or in parallel by
+		invoking a TreeSearcher task, and returns the value of the head.
+	*/
+	public double evaluateTree(boolean parallel) {
+
+		//The quiescence search at the leaves counts nodes, with no budget
+		startSearch(Long.MAX_VALUE, 0);
+		stoppable = false;
+
+		if (parallel)
+			pool.invoke(new TreeSearcher(head, new BitBoard(root), true, null));
+		else
+			alphaBetaSearch(head, new BitBoard(root), true, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+		return head.getEval();
+	}
+
+
+	/*
+		searchTree() - Builds the GameState tree SEARCH_DEPTH levels deep, searches it with alpha-beta and returns the
+		move to the highest valued child of the head.
+	*/
+	public int searchTree() {
+
+		buildTree();
+		evaluateTree(true);
+		
+		//Acquire the highest valued child of the root
+		GameState max = head.getChild(0);
+
+		for (GameState G : head.getChildren()) 
+			if (G.getEval() > max.getEval()) 
+				max = G;
+
+		return max.getMove();
+	}
+
+
+	/*
+		getNextMove(Chessboard C) - Finds the computer's best next move from the position on the given Chessboard C.
+		The move is returned packed (see Move.java), giving the Tiles it moves from and to along with the piece a
+		promoting Pawn becomes. 
+	*/
+	public int getNextMove(Chessboard C) {
+
+		//Update special piece conditions
+		root = new BitBoard(C, last);
+		root.updateBoardScan();
+		
+		/*
+		Find the move. Can be done with the depth first search, deepened until the budget is spent or to a fixed
+		depth, or by building and searching the GameState tree, which is limited to a shallower depth by memory.
+		Only one should be executed.
+		*/
+		int best = iterativeDeepening();
+		//int best = searchDepthFirst(5);
+		//int best = searchTree();
+		
+		if (best != Move.NONE) {
+			root.makeMove(best);
+			last = root.getSpecs();
+		}
+
+		return best;				
+	}
+	
 }
\ No newline at end of file
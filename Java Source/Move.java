@@ -0,0 +1,119 @@
+/*
+	Move.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	Move.java defines the packed int encoding of a move used by the move generators and the GameTree. A move is
+	never allocated, it is an int built and taken apart by the static methods below, which lets the generators
+	write moves straight into a caller owned int array.
+
+	Layout, counting bits right to left:
+		bits 0-5	- ID of the Tile the piece moves from.
+		bits 6-11	- ID of the Tile the piece moves to.
+		bits 12-15	- Flags. Bit 14 marks a capture and bit 15 a promotion, in which case the low two flag bits
+						give the promoted piece: 0 Knight, 1 Bishop, 2 Rook, 3 Queen.
+
+	The whole move fits in 16 bits.
+*/
+
+
+public class Move {
+
+	//Flags
+	public static final int QUIET = 0;
+	public static final int DOUBLE_PUSH = 1;
+	public static final int KING_CASTLE = 2;
+	public static final int QUEEN_CASTLE = 3;
+	public static final int CAPTURE = 4;
+	public static final int EN_PASSANT = 5;
+	public static final int PROMOTION = 8;
+	public static final int PROMO_CAPTURE = 12;
+
+	//No move, a8 to a8 can never be played
+	public static final int NONE = 0;
+
+	//The most moves any position can have is 218, buffers are rounded up
+	public static final int MAX_MOVES = 256;
+
+
+	/*
+		encode(int from, int to, int flags) - Packs a move from Tile from to Tile to with the given flags.
+	*/
+	public static int encode(int from, int to, int flags) {
+		return from | (to << 6) | (flags << 12);
+	}
+
+
+	/*
+		getFrom(int move) - Returns the ID of the Tile the move starts on.
+	*/
+	public static int getFrom(int move) {
+		return move & 63;
+	}
+
+
+	/*
+		getTo(int move) - Returns the ID of the Tile the move ends on.
+	*/
+	public static int getTo(int move) {
+		return (move >>> 6) & 63;
+	}
+
+
+	/*
+		getFlags(int move) - Returns the four flag bits of the move.
+	*/
+	public static int getFlags(int move) {
+		return (move >>> 12) & 15;
+	}
+
+
+	/*
+		isCapture(int move) - Returns true if the move takes a piece, including en passant.
+	*/
+	public static boolean isCapture(int move) {
+		return (getFlags(move) & CAPTURE) != 0;
+	}
+
+
+	/*
+		isPromotion(int move) - Returns true if the move promotes a Pawn.
+	*/
+	public static boolean isPromotion(int move) {
+		return (getFlags(move) & PROMOTION) != 0;
+	}
+
+
+	/*
+		getPromotion(int move) - Returns the BitBoard type index of the piece a promoting Pawn becomes.
+	*/
+	public static int getPromotion(int move) {
+		return BitBoard.KNIGHT + (getFlags(move) & 3);
+	}
+
+
+	/*
+		toString(int move) - Returns the move in coordinate notation, such as e2e4 or a7a8q.
+	*/
+	public static String toString(int move) {
+		String S = tileName(getFrom(move)) + tileName(getTo(move));
+
+		if (isPromotion(move))
+			S += "nbrq".charAt(getFlags(move) & 3);
+
+		return S;
+	}
+
+
+	/*
+		tileName(int T) - Returns the board coordinate of the Tile with ID T. Tile 0 is a8 and Tile 63 is h1.
+	*/
+	public static String tileName(int T) {
+		return "" + (char) ('a' + T%8) + (char) ('8' - T/8);
+	}
+}
@@ -0,0 +1,172 @@
+/*
+	MoveGenerator.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	MoveGenerator.java produces every legal move one color can make on a BitBoard. It walks that color's pieces type by
+	type using the BitBoard occupancy words and hands each one to the static generator of its Piece class, so a
+	promoted Pawn is generated as the piece it became.
+
+	Legality is settled once per position rather than by playing each move and looking for check. The pieces giving
+	check and the pieces pinned to the King are found first. With two checkers only the King may move. With one, every
+	other piece is limited to capturing the checker or stepping between it and the King, and a pinned piece is
+	limited to the line it is pinned along. The King itself avoids attacked Tiles and en passant, which can uncover
+	the King along a rank, is tested by the Pawn generator directly. The rest of the limits are handed to each piece's
+	generator as a target set, the Tiles its moves may end on, which never includes a friendly piece, so the generator
+	only has to mask its attacks with it.
+
+	Moves are written as packed ints (see Move.java) into an array owned by the caller, normally a per thread buffer
+	that is reused for every node, and the number of moves written is returned. Nothing is allocated.
+*/
+
+
+public class MoveGenerator {
+
+	//Kinds of move to generate
+	public static final int ALL = 0;
+	public static final int CAPTURES = 1;
+	public static final int QUIETS = 2;
+
+	//Last rank of each color, where its Pawns promote
+	private static final long[] PROMOTION_RANK = {0x00000000000000FFL, 0xFF00000000000000L};
+
+	//Scratch buffer for each thread used to test single moves for legality
+	private static final ThreadLocal<int[]> scratch = new ThreadLocal<int[]>() {
+		protected int[] initialValue() {
+			return new int[Move.MAX_MOVES];
+		}
+	};
+
+
+	/*
+		generate(BitBoard B, int color, int[] moves) - Writes every legal move of the given color into moves, starting at
+		index 0, and returns how many were written.
+	*/
+	public static int generate(BitBoard B, int color, int[] moves) {
+		return generate(B, color, ALL, -1L, moves, 0);
+	}
+
+
+	/*
+		generate(BitBoard B, int color, int kind, int[] moves, int n) - Writes the legal moves of the given color and kind
+		into moves starting at index n and returns the new number of moves. CAPTURES gives every capture, en passant and
+		promotion, QUIETS every other move, so generating both gives the same moves as ALL. MovePicker uses this to put
+		off generating the quiet moves until the captures have been tried.
+	*/
+	public static int generate(BitBoard B, int color, int kind, int[] moves, int n) {
+		return generate(B, color, kind, -1L, moves, n);
+	}
+
+
+	/*
+		isLegal(BitBoard B, int M) - Returns true if the packed move M is legal for the side to move in B. Only the moves of
+		the piece on M's starting Tile are generated, which makes this a cheap test of a move remembered from another
+		position, such as a hash move, before it is played.
+	*/
+	public static boolean isLegal(BitBoard B, int M) {
+		int P = B.getPosition(Move.getFrom(M));
+
+		if (M == Move.NONE || P == -1 || BitBoard.colorOf(P) != B.getSide())
+			return false;
+
+		int[] buffer = scratch.get();
+		int n = generate(B, B.getSide(), ALL, 1L << Move.getFrom(M), buffer, 0);
+
+		for (int i=0; i<n; i++)
+			if (buffer[i] == M)
+				return true;
+
+		return false;
+	}
+
+
+	/*
+		generate(BitBoard B, int color, int kind, long from, int[] moves, int n) - Writes the legal moves of the given color
+		and kind made by pieces on the Tiles in from into moves starting at index n, and returns the new number of moves.
+	*/
+	private static int generate(BitBoard B, int color, int kind, long from, int[] moves, int n) {
+		int K = Long.numberOfTrailingZeros(B.getPieces(color, BitBoard.KING));
+		long checkers = B.attackersOf(K, 1 - color, B.getOccupied());
+		long enemy = B.getColor(1 - color);
+		long empty = ~B.getOccupied();
+
+		//Pieces other than Pawns capture onto enemy pieces and move quietly onto empty Tiles
+		long target = (kind == CAPTURES) ? enemy : (kind == QUIETS) ? empty : enemy | empty;
+
+		//Pawns also count a push onto the last rank with the captures, since promoting changes the material
+		long pawnTarget = (kind == CAPTURES) ? enemy | (empty & PROMOTION_RANK[color])
+						: (kind == QUIETS) ? empty & ~PROMOTION_RANK[color] : enemy | empty;
+
+		//In double check nothing but a King move helps
+		if (Long.bitCount(checkers) < 2) {
+
+			long evasions = -1L;
+			if (checkers != 0)
+				evasions = checkers | AttackTables.between(K, Long.numberOfTrailingZeros(checkers));
+
+			long pinned = pinned(B, color, K);
+
+			for (long b = B.getPieces(color, BitBoard.PAWN) & from; b != 0; b &= b - 1)
+				n = Pawn.generate(B, Long.numberOfTrailingZeros(b), restrict(pawnTarget & evasions, pinned, K, b), moves, n);
+
+			for (long b = B.getPieces(color, BitBoard.KNIGHT) & from; b != 0; b &= b - 1)
+				n = Knight.generate(B, Long.numberOfTrailingZeros(b), restrict(target & evasions, pinned, K, b), moves, n);
+
+			for (long b = B.getPieces(color, BitBoard.BISHOP) & from; b != 0; b &= b - 1)
+				n = Bishop.generate(B, Long.numberOfTrailingZeros(b), restrict(target & evasions, pinned, K, b), moves, n);
+
+			for (long b = B.getPieces(color, BitBoard.ROOK) & from; b != 0; b &= b - 1)
+				n = Rook.generate(B, Long.numberOfTrailingZeros(b), restrict(target & evasions, pinned, K, b), moves, n);
+
+			for (long b = B.getPieces(color, BitBoard.QUEEN) & from; b != 0; b &= b - 1)
+				n = Queen.generate(B, Long.numberOfTrailingZeros(b), restrict(target & evasions, pinned, K, b), moves, n);
+		}
+
+		if ((from & (1L << K)) != 0)
+			n = King.generate(B, K, target, checkers == 0 && kind != CAPTURES, moves, n);
+
+		return n;
+	}
+
+
+	/*
+		pinned(BitBoard B, int color, int K) - Returns the bitboard of pieces of the given color pinned to their King on
+		Tile K. Enemy sliders are looked up from the King through the enemy pieces only, and any of them with exactly one
+		piece between it and the King pins that piece if it is a friendly one.
+	*/
+	private static long pinned(BitBoard B, int color, int K) {
+		int them = 1 - color;
+		long queens = B.getPieces(them, BitBoard.QUEEN);
+		long snipers = (AttackTables.rookAttacks(K, B.getColor(them)) & (B.getPieces(them, BitBoard.ROOK) | queens))
+			| (AttackTables.bishopAttacks(K, B.getColor(them)) & (B.getPieces(them, BitBoard.BISHOP) | queens));
+		long pinned = 0;
+
+		for (; snipers != 0; snipers &= snipers - 1) {
+			long blockers = AttackTables.between(K, Long.numberOfTrailingZeros(snipers)) & B.getOccupied();
+
+			if (Long.bitCount(blockers) == 1)
+				pinned |= blockers & B.getColor(color);
+		}
+
+		return pinned;
+	}
+
+
+	/*
+		restrict(long target, long pinned, int K, long b) - Returns the Tiles the lowest piece in b may move to, which is
+		target unless the piece is pinned, in which case it is cut down to the line through the piece and its King.
+	*/
+	private static long restrict(long target, long pinned, int K, long b) {
+		int T = Long.numberOfTrailingZeros(b);
+
+		if ((pinned & (1L << T)) != 0)
+			return target & AttackTables.line(K, T);
+
+		return target;
+	}
+}
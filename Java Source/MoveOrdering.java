@@ -0,0 +1,155 @@
+/*
+	MoveOrdering.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	MoveOrdering.java holds what one search thread has learned about which moves are good, so that MovePicker can hand
+	out the moves of a node best first. Alpha-beta prunes the most when the best move is searched first, since the moves
+	after it then only have to be shown to be no better.
+
+	Captures are ordered most valuable victim, least valuable attacker (MVV-LVA): taking a Queen comes before taking a
+	Rook, and taking it with a Pawn before taking it with a Queen. Quiet moves are ordered by what caused cutoffs
+	elsewhere in the search:
+		killers		- The last two quiet moves to cause a beta cutoff at the same ply. Sibling positions tend to have
+						the same refutation, so these are tried right after the captures.
+		counters	- The quiet move that last refuted each move, keyed by the piece that moved and where it went.
+		history		- A butterfly table counting, for each side, origin and destination, how often the move caused a
+						cutoff, weighted by the square of the depth so that cutoffs near the root count the most. The rest
+						of the quiet moves are searched in order of this count.
+
+	A MoveOrdering is owned by a single thread, as the move buffers and MovePickers are, so it is read and written
+	without locks. At the start of each search the killers are cleared and the history halved, which keeps what was
+	learned about the position while letting newer cutoffs outweigh it.
+
+	Data members:
+		killers - int[][]	- Two killer moves for each ply, the newest first.
+		counters - int[][]	- Counter move for each piece kind, color*6 + type, and destination Tile.
+		history - int[][]	- History count for each side, indexed by from*64 + to.
+		generation - int	- ID of the search the tables were last aged for.
+*/
+
+
+import java.util.Arrays;
+
+
+public class MoveOrdering {
+
+	//History counts are halved once one passes this, keeping them well within an int.
+	private static final int HISTORY_LIMIT = 1 << 24;
+
+	private int[][] killers;
+	private int[][] counters;
+	private int[][] history;
+	private int generation;
+
+
+	public MoveOrdering() {
+		killers = new int[GameTree.MAX_DEPTH][2];
+		counters = new int[12][64];
+		history = new int[2][64*64];
+		generation = 0;
+	}
+
+
+	/*
+		newSearch(int id) - Ages the tables if they were last used by a search other than the one with the given ID.
+	*/
+	public void newSearch(int id) {
+
+		if (id == generation)
+			return;
+
+		generation = id;
+
+		for (int[] K : killers)
+			Arrays.fill(K, Move.NONE);
+
+		for (int[] H : history)
+			for (int i=0; i<H.length; i++)
+				H[i] >>= 1;
+	}
+
+
+	/*
+		captureScore(BitBoard B, int move) - Returns the MVV-LVA score of a capture or promotion in B, higher for better
+		moves. Promoting to a Queen ranks with taking one, while promoting to anything else comes after every capture.
+	*/
+	public static int captureScore(BitBoard B, int move) {
+		int score = 0;
+		int attacker = B.getType(B.getPosition(Move.getFrom(move)));
+
+		if (Move.getFlags(move) == Move.EN_PASSANT)
+			score = 8*(BitBoard.PAWN+1) - attacker;
+		else if (Move.isCapture(move))
+			score = 8*(B.getType(B.getPosition(Move.getTo(move)))+1) - attacker;
+
+		if (Move.isPromotion(move))
+			score += (Move.getPromotion(move) == BitBoard.QUEEN) ? 8*BitBoard.QUEEN : -64;
+
+		return score;
+	}
+
+
+	/*
+		historyScore(int side, int move) - Returns the history count of a quiet move for the given side.
+	*/
+	public int historyScore(int side, int move) {
+		return history[side][Move.getFrom(move)*64 + Move.getTo(move)];
+	}
+
+
+	/*
+		getKiller(int ply, int i) - Returns killer move i, 0 or 1, of the given ply.
+	*/
+	public int getKiller(int ply, int i) {
+		return killers[ply][i];
+	}
+
+
+	/*
+		getCounter(BitBoard B) - Returns the counter move to the last move made in B, Move.NONE if there is none.
+	*/
+	public int getCounter(BitBoard B) {
+		int last = B.getLastMove();
+
+		if (last == Move.NONE)
+			return Move.NONE;
+
+		int to = Move.getTo(last);
+		int P = B.getPosition(to);
+		return counters[BitBoard.colorOf(P)*6 + B.getType(P)][to];
+	}
+
+
+	/*
+		update(BitBoard B, int move, int depth, int ply) - Records that the quiet move caused a beta cutoff in B, searched
+		depth moves deep at the given ply, making it a killer of the ply and the counter move to the move before it.
+	*/
+	public void update(BitBoard B, int move, int depth, int ply) {
+
+		if (killers[ply][0] != move) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = move;
+		}
+
+		int last = B.getLastMove();
+		if (last != Move.NONE) {
+			int to = Move.getTo(last);
+			int P = B.getPosition(to);
+			counters[BitBoard.colorOf(P)*6 + B.getType(P)][to] = move;
+		}
+
+		int[] H = history[B.getSide()];
+		int i = Move.getFrom(move)*64 + Move.getTo(move);
+		H[i] += depth*depth;
+
+		if (H[i] > HISTORY_LIMIT)
+			for (int j=0; j<H.length; j++)
+				H[j] >>= 1;
+	}
+}
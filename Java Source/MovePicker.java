@@ -0,0 +1,224 @@
+/*
+	MovePicker.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	MovePicker.java hands out the legal moves of a position one at a time, generating them in stages as they are
+	asked for rather than all at once. The hash move, the best move found for the position by an earlier search, comes
+	first and is only checked for legality. Captures and promotions that do not lose material by static exchange
+	evaluation (see StaticExchange.java) come next, ordered by MVV-LVA, then the two killer moves of the ply and the
+	counter move to the move before, each also only checked for legality, the remaining quiet moves ordered by their
+	history count, and last the losing captures and underpromotions. A node that is cut off by one of its first moves
+	never generates the rest. The scores come from the MoveOrdering of the thread, see MoveOrdering.java.
+
+	A MovePicker writes into a move buffer owned by the caller and allocates nothing, so the search keeps one per
+	level in each thread and calls init at every node. The quiescence search calls initCaptures instead, which hands
+	out the captures and promotions that do not lose material alone.
+
+	Data members:
+		board - BitBoard		- The position moves are picked from.
+		ordering - MoveOrdering	- Killers, counter moves and history of the thread searching.
+		ply - int				- Distance of the position from the root, selecting its killers.
+		hashMove - int			- Move to try first, Move.NONE if there is none.
+		killer1 - int			- First killer move, Move.NONE once found not to be legal.
+		killer2 - int			- Second killer move, likewise.
+		counter - int			- Counter move, likewise.
+		moves - int[]			- Buffer the generated moves are written into, captures first then quiets.
+		scores - int[]			- Ordering score of each move in moves.
+		stage - int				- Which group of moves is being handed out.
+		index - int				- Index in moves of the next move to hand out.
+		count - int				- Number of moves generated into moves so far.
+		badStart - int			- Index in moves of the first losing capture.
+		badEnd - int			- Index in moves after the last losing capture.
+		capturesOnly - boolean	- Whether to stop once the captures and promotions are handed out.
+*/
+
+
+public class MovePicker {
+
+	//Stages
+	private static final int HASH = 0;
+	private static final int GEN_CAPTURES = 1;
+	private static final int CAPTURES = 2;
+	private static final int KILLER1 = 3;
+	private static final int KILLER2 = 4;
+	private static final int COUNTER = 5;
+	private static final int GEN_QUIETS = 6;
+	private static final int QUIETS = 7;
+	private static final int BAD_CAPTURES = 8;
+	private static final int DONE = 9;
+
+	//Taken off the score of a losing capture, putting it after every capture that is not
+	private static final int LOSING = 1 << 16;
+
+	private BitBoard board;
+	private MoveOrdering ordering;
+	private int ply;
+	private int hashMove;
+	private int killer1, killer2, counter;
+	private int[] moves;
+	private int[] scores;
+	private int stage;
+	private int index;
+	private int count;
+	private int badStart, badEnd;
+	private boolean capturesOnly;
+
+
+	public MovePicker() {
+		scores = new int[Move.MAX_MOVES];
+		stage = DONE;
+	}
+
+
+	/*
+		init(BitBoard B, int hash, int[] buffer, MoveOrdering order, int ply) - Readies this MovePicker to hand out the moves
+		of the side to move in B, ply moves from the root, starting with hash if it is legal there, using buffer to hold
+		the generated moves and order to rank them.
+	*/
+	public void init(BitBoard B, int hash, int[] buffer, MoveOrdering order, int ply) {
+		board = B;
+		ordering = order;
+		this.ply = ply;
+		hashMove = hash;
+		moves = buffer;
+		stage = HASH;
+		index = 0;
+		count = 0;
+		capturesOnly = false;
+	}
+
+
+	/*
+		initCaptures(BitBoard B, int[] buffer, MoveOrdering order, int ply) - Readies this MovePicker to hand out only the
+		captures and promotions of the side to move in B, best first.
+	*/
+	public void initCaptures(BitBoard B, int[] buffer, MoveOrdering order, int ply) {
+		init(B, Move.NONE, buffer, order, ply);
+		stage = GEN_CAPTURES;
+		capturesOnly = true;
+	}
+
+
+	/*
+		next() - Returns the next move, or Move.NONE once every legal move has been handed out. The position in the
+		BitBoard must be the same one given to init whenever this is called.
+	*/
+	//Each stage falls through to the next once it has nothing left to hand out
+	@SuppressWarnings("fallthrough")
+	public int next() {
+
+		switch (stage) {
+			case HASH:
+				stage = GEN_CAPTURES;
+				if (hashMove != Move.NONE && MoveGenerator.isLegal(board, hashMove))
+					return hashMove;
+
+			case GEN_CAPTURES:
+				count = MoveGenerator.generate(board, board.getSide(), MoveGenerator.CAPTURES, moves, 0);
+				for (int i=0; i<count; i++) {
+					scores[i] = MoveOrdering.captureScore(board, moves[i]);
+					if (scores[i] < 0 || StaticExchange.losesMaterial(board, moves[i]))
+						scores[i] -= LOSING;
+				}
+				sort(0, count);
+				badEnd = count;
+				stage = CAPTURES;
+
+			case CAPTURES:
+				while (index < count && scores[index] >= 0) {
+					int M = moves[index++];
+					if (M != hashMove)
+						return M;
+				}
+				badStart = index;
+				index = count;
+				if (capturesOnly) {
+					stage = DONE;
+					return Move.NONE;
+				}
+				stage = KILLER1;
+
+			case KILLER1:
+				stage = KILLER2;
+				killer1 = ordering.getKiller(ply, 0);
+				if (isNew(killer1) && MoveGenerator.isLegal(board, killer1))
+					return killer1;
+				killer1 = Move.NONE;
+
+			case KILLER2:
+				stage = COUNTER;
+				killer2 = ordering.getKiller(ply, 1);
+				if (isNew(killer2) && killer2 != killer1 && MoveGenerator.isLegal(board, killer2))
+					return killer2;
+				killer2 = Move.NONE;
+
+			case COUNTER:
+				stage = GEN_QUIETS;
+				counter = ordering.getCounter(board);
+				if (isNew(counter) && counter != killer1 && counter != killer2 && MoveGenerator.isLegal(board, counter))
+					return counter;
+				counter = Move.NONE;
+
+			case GEN_QUIETS:
+				count = MoveGenerator.generate(board, board.getSide(), MoveGenerator.QUIETS, moves, count);
+				for (int i=index; i<count; i++)
+					scores[i] = ordering.historyScore(board.getSide(), moves[i]);
+				sort(index, count);
+				stage = QUIETS;
+
+			case QUIETS:
+				while (index < count) {
+					int M = moves[index++];
+					if (M != hashMove && M != killer1 && M != killer2 && M != counter)
+						return M;
+				}
+				stage = BAD_CAPTURES;
+
+			case BAD_CAPTURES:
+				while (badStart < badEnd) {
+					int M = moves[badStart++];
+					if (M != hashMove)
+						return M;
+				}
+				stage = DONE;
+
+			default:
+				return Move.NONE;
+		}
+	}
+
+
+	/*
+		isNew(int M) - Returns true if M is a quiet move other than the hash move, the only kind a killer or counter move
+		may be handed out as.
+	*/
+	private boolean isNew(int M) {
+		return M != Move.NONE && M != hashMove && !Move.isCapture(M) && !Move.isPromotion(M);
+	}
+
+
+	/*
+		sort(int from, int to) - Sorts the moves from index from up to index to by score, highest first. An insertion sort,
+		which is quickest for lists this short and keeps the generation order of moves that score the same.
+	*/
+	private void sort(int from, int to) {
+
+		for (int i=from+1; i<to; i++) {
+			int M = moves[i], S = scores[i], j = i-1;
+
+			for (; j>=from && scores[j] < S; j--) {
+				moves[j+1] = moves[j];
+				scores[j+1] = scores[j];
+			}
+
+			moves[j+1] = M;
+			scores[j+1] = S;
+		}
+	}
+}
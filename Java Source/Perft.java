@@ -0,0 +1,396 @@
+/*
+	Perft.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	Perft.java is a headless tool for checking the speed and correctness of the move generator used by the GameTree.
+	It counts the leaf nodes of the full tree of legal moves from a position to a given depth (performance test, or
+	perft) by walking it with makeMove/unmakeMove on a BitBoard and MoveGenerator, exactly as GameTree does. The counts
+	are compared with published values for a set of standard positions that between them exercise castling, en passant,
+	promotion, pins and checks, so any generator bug shows up as a mismatch without a game having to be played.
+
+	Deep counts can be run in parallel on the GameTree's ForkJoinPool. The tree is split recursively, every node more
+	than SPLIT_DEPTH moves from the leaves handing each child to its own task, and the subtrees below are walked
+	serially. A shared hash table keyed by position and depth can be given so that a subtree reached by transposition
+	is counted once. Entries are written without locks, each one stored as its key XORed with its data alongside the
+	data, so an entry torn by two threads writing at once fails the key check and is treated as a miss.
+
+	Usage:
+		java Perft								- Runs every reference position and reports whether each count matches.
+		java Perft <depth> [FEN]				- Prints the divide for the position, the start position if no FEN is
+												  given: the number of leaf nodes under each root move, the total, the
+												  time taken and the nodes searched per second.
+		java Perft parallel <depth> <MB> [FEN]	- Counts the position in parallel on the GameTree's pool with a hash
+												  table of the given size in megabytes, 0 for none.
+		java Perft scaling <depth> <MB> [FEN]	- Counts the position in parallel on pools of 1 up to the number of
+												  processors, reporting the time and speedup over one worker for each.
+
+	Data members:
+		START - String			- FEN of the initial position.
+		REFERENCE - String[]	- FEN of each reference position.
+		COUNTS - long[][]		- Known leaf counts of each reference position, index d holding the count at depth d+1.
+		SPLIT_DEPTH - int		- Depth at and below which a parallel count walks its subtree serially.
+*/
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+public class Perft {
+
+	private static final int SPLIT_DEPTH = 3;
+
+	//Move buffers for each thread running a parallel count, one per level
+	private static final ThreadLocal<int[][]> moveBuffers = new ThreadLocal<int[][]>() {
+		protected int[][] initialValue() {
+			return new int[GameTree.MAX_DEPTH][Move.MAX_MOVES];
+		}
+	};
+
+
+	/*
+		HashTable is the table shared by the tasks of a parallel count. Each entry takes two longs, the key XORed with the
+		data and the data itself, where the data is the leaf count shifted left 8 bits with the depth in the low 8 bits.
+		The entry for a key is found by masking its low bits, and a newer result always replaces an older one.
+	*/
+	static class HashTable {
+		private AtomicLongArray entries;
+		private int mask;
+
+		//Entries are 16 bytes, and the table is capped so that its two longs per entry still fit one array
+		HashTable(int megabytes) {
+			int size = Integer.highestOneBit((int) Math.min((long) megabytes << 16, 1 << 29));
+			entries = new AtomicLongArray(2*size);
+			mask = size - 1;
+		}
+
+
+		long probe(long key, int depth) {
+			int i = 2*((int) key & mask);
+			long data = entries.get(i+1);
+
+			if ((entries.get(i) ^ data) == key && (data & 0xFF) == depth)
+				return data >>> 8;
+
+			return -1;
+		}
+
+
+		void store(long key, int depth, long count) {
+			int i = 2*((int) key & mask);
+			long data = (count << 8) | depth;
+
+			entries.set(i, key ^ data);
+			entries.set(i+1, data);
+		}
+	}
+
+
+	/*
+		PerftTask is the ForkJoinTask subclass that counts the leaves below the position in its own BitBoard. Above
+		SPLIT_DEPTH it plays each move on a copy of its board and invokes a task per child, otherwise it walks the
+		subtree serially.
+	*/
+	static class PerftTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private BitBoard board;
+		private int depth;
+		private HashTable table;
+
+		PerftTask(BitBoard B, int D, HashTable H) {
+			this.board = B;
+			this.depth = D;
+			this.table = H;
+		}
+
+
+		protected Long compute() {
+
+			if (depth <= SPLIT_DEPTH)
+				return perft(board, depth, moveBuffers.get(), table);
+
+			long key = 0;
+			if (table != null) {
+				key = board.getHash();
+				long count = table.probe(key, depth);
+				if (count != -1)
+					return count;
+			}
+
+			int[] M = new int[Move.MAX_MOVES];
+			int n = MoveGenerator.generate(board, board.getSide(), M);
+			List<PerftTask> tasks = new ArrayList<PerftTask>(n);
+
+			for (int i=0; i<n; i++) {
+				BitBoard next = new BitBoard(board);
+				next.makeMove(M[i]);
+				tasks.add(new PerftTask(next, depth-1, table));
+			}
+
+			invokeAll(tasks);
+
+			long nodes = 0;
+			for (PerftTask T : tasks)
+				nodes += T.join();
+
+			if (table != null)
+				table.store(key, depth, nodes);
+
+			return nodes;
+		}
+	}
+
+
+	public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String[] REFERENCE = {
+		START,
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+		"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+		"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+		"r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"};
+
+	private static final long[][] COUNTS = {
+		{20, 400, 8902, 197281, 4865609},
+		{48, 2039, 97862, 4085603},
+		{14, 191, 2812, 43238, 674624},
+		{6, 264, 9467, 422333},
+		{44, 1486, 62379, 2103487},
+		{46, 2079, 89890, 3894594}};
+
+
+	public static void main(String[] args) {
+
+		if (args.length == 0) {
+			if (!runReference())
+				System.exit(1);
+			return;
+		}
+
+		String mode = args[0];
+		boolean threaded = mode.equals("parallel") || mode.equals("scaling");
+		int first = threaded ? 3 : 1;
+		String fen = START;
+
+		//The threaded modes need both a depth and a hash table size
+		if (threaded && args.length < 3)
+			usage();
+
+		int depth = Integer.parseInt(threaded ? args[1] : args[0]);
+
+		//Each level of the count takes one move buffer, and a divide at depth 0 has no moves to divide
+		if (depth < 1 || depth >= GameTree.MAX_DEPTH)
+			usage();
+
+		if (args.length > first) {
+			fen = args[first];
+			for (int i=first+1; i<args.length; i++)
+				fen += " " + args[i];
+		}
+
+		if (mode.equals("parallel"))
+			parallel(new BitBoard(fen), depth, GameTree.getPool(), Integer.parseInt(args[2]), true);
+		else if (mode.equals("scaling"))
+			scaling(new BitBoard(fen), depth, Integer.parseInt(args[2]));
+		else
+			divide(new BitBoard(fen), depth);
+	}
+
+
+	/*
+		usage() - Prints how Perft is run and exits.
+	*/
+	private static void usage() {
+		System.err.println("Usage: java Perft [<depth> [FEN] | parallel <depth> <MB> [FEN] | scaling <depth> <MB> [FEN]],"
+			+ " where depth is from 1 to " + (GameTree.MAX_DEPTH-1));
+		System.exit(1);
+	}
+
+
+	/*
+		perft(BitBoard B, int depth, int[][] buffers) - Returns the number of leaf nodes depth moves below the position in B,
+		which is left unchanged. buffers holds one move list per level. At depth 1 the moves are counted rather than
+		played since every legal move is a leaf.
+	*/
+	public static long perft(BitBoard B, int depth, int[][] buffers) {
+		return perft(B, depth, buffers, null);
+	}
+
+
+	/*
+		perft(BitBoard B, int depth, int[][] buffers, HashTable table) - As above, looking up and storing the count of every
+		node two or more moves from the leaves in table unless it is null.
+	*/
+	private static long perft(BitBoard B, int depth, int[][] buffers, HashTable table) {
+
+		int[] M = buffers[depth];
+		int n = MoveGenerator.generate(B, B.getSide(), M);
+
+		if (depth <= 1)
+			return (depth == 1) ? n : 1;
+
+		long key = 0;
+		if (table != null) {
+			key = B.getHash();
+			long count = table.probe(key, depth);
+			if (count != -1)
+				return count;
+		}
+
+		long nodes = 0;
+		for (int i=0; i<n; i++) {
+			B.makeMove(M[i]);
+			nodes += perft(B, depth-1, buffers, table);
+			B.unmakeMove();
+		}
+
+		if (table != null)
+			table.store(key, depth, nodes);
+
+		return nodes;
+	}
+
+
+	/*
+		parallel(BitBoard B, int depth, ForkJoinPool pool, int megabytes, boolean print) - Counts the leaves depth moves
+		below B on the given pool using a hash table of the given size, none if it is 0, and returns the count. If print
+		is set the count, time taken and nodes per second are printed.
+	*/
+	public static long parallel(BitBoard B, int depth, ForkJoinPool pool, int megabytes, boolean print) {
+
+		HashTable table = (megabytes > 0) ? new HashTable(megabytes) : null;
+
+		long start = System.nanoTime();
+		long nodes = pool.invoke(new PerftTask(new BitBoard(B), depth, table));
+		long time = System.nanoTime() - start;
+
+		if (print) {
+			System.out.println("Workers: " + pool.getParallelism() + ", hash: " + megabytes + " MB");
+			System.out.println("Nodes: " + nodes);
+			System.out.println("Time: " + time/1000000 + " ms");
+			System.out.println("Nodes/second: " + rate(nodes, time));
+		}
+
+		return nodes;
+	}
+
+
+	/*
+		scaling(BitBoard B, int depth, int megabytes) - Runs a parallel count of B on pools of every size from 1 to the
+		number of processors, each with a fresh hash table of the given size, and prints the time and speedup of each
+		over the single worker run.
+	*/
+	public static void scaling(BitBoard B, int depth, int megabytes) {
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		long base = 0;
+
+		//Warm up the JIT so the single worker run is not charged for compilation
+		parallel(B, Math.min(depth, 4), GameTree.getPool(), 0, false);
+
+		System.out.println("Workers\tNodes\t\tms\tNodes/second\tSpeedup");
+
+		for (int k=1; k<=processors; k++) {
+			ForkJoinPool pool = new ForkJoinPool(k);
+
+			long start = System.nanoTime();
+			long nodes = parallel(B, depth, pool, megabytes, false);
+			long time = System.nanoTime() - start;
+
+			pool.shutdown();
+
+			if (k == 1)
+				base = time;
+
+			System.out.println(k + "\t" + nodes + "\t" + time/1000000 + "\t" + rate(nodes, time) + "\t"
+				+ String.format("%.2f", (double) base/time));
+		}
+	}
+
+
+	/*
+		divide(BitBoard B, int depth) - Prints the leaf count under each root move of B, the total, the elapsed time
+		and the nodes per second, then returns the total.
+	*/
+	public static long divide(BitBoard B, int depth) {
+
+		int[][] buffers = new int[depth+1][Move.MAX_MOVES];
+		int[] M = buffers[depth];
+		int n = MoveGenerator.generate(B, B.getSide(), M);
+		long total = 0;
+		long start = System.nanoTime();
+
+		for (int i=0; i<n; i++) {
+			B.makeMove(M[i]);
+			long nodes = perft(B, depth-1, buffers);
+			B.unmakeMove();
+
+			System.out.println(Move.toString(M[i]) + ": " + nodes);
+			total += nodes;
+		}
+
+		long time = System.nanoTime() - start;
+
+		System.out.println();
+		System.out.println("Moves: " + n);
+		System.out.println("Nodes: " + total);
+		System.out.println("Time: " + time/1000000 + " ms");
+		System.out.println("Nodes/second: " + rate(total, time));
+
+		return total;
+	}
+
+
+	/*
+		runReference() - Runs every reference position to the deepest depth it has a count for and prints the result of
+		each. Returns true if every count matched.
+	*/
+	public static boolean runReference() {
+
+		int[][] buffers = new int[GameTree.MAX_DEPTH][Move.MAX_MOVES];
+		boolean passed = true;
+		long totalNodes = 0, totalTime = 0;
+
+		for (int i=0; i<REFERENCE.length; i++) {
+			int depth = COUNTS[i].length;
+			long expected = COUNTS[i][depth-1];
+
+			long start = System.nanoTime();
+			long nodes = perft(new BitBoard(REFERENCE[i]), depth, buffers);
+			long time = System.nanoTime() - start;
+
+			totalNodes += nodes;
+			totalTime += time;
+
+			String result = (nodes == expected) ? "ok" : "FAILED, expected " + expected;
+			passed &= nodes == expected;
+
+			System.out.println("Position " + (i+1) + " depth " + depth + ": " + nodes + " nodes, " + time/1000000 + " ms, "
+				+ rate(nodes, time) + " nodes/s, " + result);
+		}
+
+		System.out.println();
+		System.out.println("Total: " + totalNodes + " nodes, " + totalTime/1000000 + " ms, " + rate(totalNodes, totalTime) + " nodes/s");
+		System.out.println(passed ? "All positions passed" : "Some positions FAILED");
+
+		return passed;
+	}
+
+
+	/*
+		rate(long nodes, long nanos) - Returns the number of nodes per second given a count and an elapsed time in nanoseconds.
+	*/
+	private static long rate(long nodes, long nanos) {
+		return (nanos == 0) ? 0 : nodes*1000000000L/nanos;
+	}
+}
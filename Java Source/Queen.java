@@ -1,78 +1,89 @@
-/*
-*	Queen.java
-*	Date of creation: May 18, 2018
-*	Date of last modification: Nov 4, 2018
-*	
-*	Author: Justin Underhay
-*	
-*/
-
-/*
-	Queen.java represents the Queen piece.
-	The queen possesses no special moves.
-	
-	Inherits from Piece.java
-
-*/
-
-
-import javax.swing.ImageIcon;
-
-
-public class Queen extends Piece {
-	
-	
-	public Queen(char pieceColor, char pieceType, int ID) {
-
-		if (osName == "windows")
-			path = "Supplemental\\";
-		else
-			path = "./Supplemental/";
-
-		
-		if (pieceColor == 'W')
-			setImage(new ImageIcon(path + "W-Queen.png"));
-		else
-			setImage(new ImageIcon(path + "B-Queen.png"));
-		
-		setColor(pieceColor);
-		setType(pieceType);
-		setID(ID);
-		setCapture(false);	
-	}	
-	
-	
-	/*
-		move(Chessboard cBoard) - Generates an integer array containing the Tile ID numbers of Tiles the Queen may legally move to.
-		The Queen combines the movement power of the Rook and Bishop: horizontally, vertically, and diagonally in any direction.
-		The Queen cannot jump over other pieces.
-	*/
-	public int[] move(Chessboard cBoard) {
-		//The Queen's valid moves can be obtained by creating a Rook and Bishop and calling their respective move methods. 
-		
-		int[] M1 = (new Rook(getColor(),'R',getID())).move(cBoard);
-		int[] M2 = (new Bishop(getColor(),'B',getID())).move(cBoard);
-		
-		int[] moves = new int[M1.length+M2.length];
-		
-		System.arraycopy(M1,0,moves,0,M1.length);
-		System.arraycopy(M2,1,moves,M1.length,M2.length-1);
-		
-		return moves;
-	}	
-
-
-
-	public int[] move(BitMap B) {
-
-		int[] M1 = (new Rook(getColor(),'R',getID())).move(B);
-		int[] M2 = (new Bishop(getColor(),'B',getID())).move(B);
-		
-		int[] moves = new int[M1.length+M2.length];
-
-		System.arraycopy(M1,0,moves,0,M1.length);
-		System.arraycopy(M2,0,moves,M1.length,M2.length);
-
-		return moves;
-	}
-}	
+/*
+*	Queen.java
+*	Date of creation: May 18, 2018
+*	Date of last modification: Oct 18, 2026
+*	
+*	Author: Justin Underhay
+*	
+*/
+
+/*
+	Queen.java represents the Queen piece.
+	The queen possesses no special moves.
+	
+	Inherits from Piece.java
+
+*/
+
+
+import javax.swing.ImageIcon;
+
+
+public class Queen extends Piece {
+	
+	
+	public Queen(char pieceColor, char pieceType, int ID) {
+
+		if (osName == "windows")
+			path = "Supplemental\\";
+		else
+			path = "./Supplemental/";
+
+		
+		if (pieceColor == 'W')
+			setImage(new ImageIcon(path + "W-Queen.png"));
+		else
+			setImage(new ImageIcon(path + "B-Queen.png"));
+		
+		setColor(pieceColor);
+		setType(pieceType);
+		setID(ID);
+		setCapture(false);	
+	}	
+	
+	
+	/*
+		move(Chessboard cBoard) - Generates an integer array containing the Tile ID numbers of Tiles the Queen may legally move to.
+		The Queen combines the movement power of the Rook and Bishop: horizontally, vertically, and diagonally in any direction.
+		The Queen cannot jump over other pieces.
+	*/
+	public int[] move(Chessboard cBoard) {
+		//The Queen's valid moves can be obtained by creating a Rook and Bishop and calling their respective move methods. 
+		
+		int[] M1 = (new Rook(getColor(),'R',getID())).move(cBoard);
+		int[] M2 = (new Bishop(getColor(),'B',getID())).move(cBoard);
+		
+		int[] moves = new int[M1.length+M2.length];
+		
+		System.arraycopy(M1,0,moves,0,M1.length);
+		System.arraycopy(M2,1,moves,M1.length,M2.length-1);
+		
+		return moves;
+	}	
+
+
+
+	public int[] move(BitMap B) {
+
+		int[] M1 = (new Rook(getColor(),'R',getID())).move(B);
+		int[] M2 = (new Bishop(getColor(),'B',getID())).move(B);
+		
+		int[] moves = new int[M1.length+M2.length];
+
+		System.arraycopy(M1,0,moves,0,M1.length);
+		System.arraycopy(M2,0,moves,M1.length,M2.length);
+
+		return moves;
+	}
+
+
+	/*
+		generate(BitBoard B, int T, long target, int[] moves, int n) - Writes the moves of the Queen on Tile T onto the Tiles in
+		target into moves starting at index n and returns the new number of moves. The attack set is the union
+		of the Rook and Bishop lookups.
+	*/
+	public static int generate(BitBoard B, int T, long target, int[] moves, int n) {
+		long targets = AttackTables.queenAttacks(T, B.getOccupied()) & target;
+		return addMoves(B, T, targets, moves, n);
+	}
+}	
@@ -0,0 +1,153 @@
+/*
+	StaticExchange.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	StaticExchange.java works out what a capture wins or loses without searching it, by playing out every capture on
+	the one Tile in turn (static exchange evaluation, or SEE). Each side recaptures with its least valuable attacker,
+	and either side may stop capturing as soon as going on would lose it material. Attackers are found from the
+	BitBoard's attack tables against an occupancy that has each capturing piece taken out as it moves, so a Rook or
+	Queen lined up behind another slider joins in once the piece in front of it has captured.
+
+	The result does not account for pins or checks, so it is an estimate, but it tells a winning capture from a losing
+	one far better than the values of the pieces alone. MovePicker uses it to put losing captures after the quiet moves
+	and to leave them out of the quiescence search, and Evaluate uses it to find the pieces that are truly hanging.
+
+	Values are in hundredths, from Evaluate's piece values, so they compare directly with the GameTree's scores.
+
+	Data members:
+		VALUES - int[]		- Value of each piece type in hundredths, the King's far above everything else.
+		gains - ThreadLocal<int[]>	- Gain at each step of an exchange, a scratch list for each thread.
+*/
+
+
+public class StaticExchange {
+
+	private static final int[] VALUES = new int[6];
+
+	static {
+		for (int t=0; t<6; t++)
+			VALUES[t] = (int) Math.round(Evaluate.getValue(t) * 100);
+	}
+
+	//There are at most 32 pieces to take part in an exchange
+	private static final ThreadLocal<int[]> gains = new ThreadLocal<int[]>() {
+		protected int[] initialValue() {
+			return new int[32];
+		}
+	};
+
+
+	/*
+		see(BitBoard B, int move) - Returns the material the side to move in B gains by playing the capture or promotion
+		move and letting the exchange on its destination play out, negative if it loses material.
+	*/
+	public static int see(BitBoard B, int move) {
+		int from = Move.getFrom(move);
+		int to = Move.getTo(move);
+		int mover = B.getType(B.getPosition(from));
+		long occ = B.getOccupied();
+		int captured = 0;
+
+		if (Move.getFlags(move) == Move.EN_PASSANT) {
+			captured = VALUES[BitBoard.PAWN];
+			occ ^= 1L << ((B.getSide() == BitBoard.WHITE) ? to+8 : to-8);
+		} else if (Move.isCapture(move))
+			captured = VALUES[B.getType(B.getPosition(to))];
+
+		if (Move.isPromotion(move)) {
+			mover = Move.getPromotion(move);
+			captured += VALUES[mover] - VALUES[BitBoard.PAWN];
+		}
+
+		return swap(B, to, 1L << from, mover, B.getSide(), occ, captured);
+	}
+
+
+	/*
+		losesMaterial(BitBoard B, int move) - Returns true if the capture or promotion move loses material in B by static
+		exchange evaluation. Taking a piece worth at least the one taking it can never lose, so the exchange is only
+		played out for the others.
+	*/
+	public static boolean losesMaterial(BitBoard B, int move) {
+
+		if (Move.isCapture(move) && !Move.isPromotion(move) && Move.getFlags(move) != Move.EN_PASSANT
+				&& VALUES[B.getType(B.getPosition(Move.getTo(move)))] >= VALUES[B.getType(B.getPosition(Move.getFrom(move)))])
+			return false;
+
+		return see(B, move) < 0;
+	}
+
+
+	/*
+		threat(BitBoard B, int T, int byColor) - Returns the material the given color would win by starting an exchange on
+		the Tile with ID T, 0 if it has no capture there that wins anything.
+	*/
+	public static int threat(BitBoard B, int T, int byColor) {
+		long occ = B.getOccupied();
+		long attackers = B.attackersOf(T, byColor, occ);
+
+		if (attackers == 0)
+			return 0;
+
+		for (int t=0; t<6; t++) {
+			long bb = attackers & B.getPieces(byColor, t);
+
+			if (bb != 0)
+				return Math.max(0, swap(B, T, bb & -bb, t, byColor, occ, VALUES[B.getType(B.getPosition(T))]));
+		}
+
+		return 0;
+	}
+
+
+	/*
+		swap(BitBoard B, int to, long first, int mover, int side, long occ, int captured) - Plays out the exchange on the
+		Tile to, starting with side capturing with the piece of the given type on the Tile set in first and winning
+		captured, occ being the occupancy before that capture. Returns what side gains with best play by both sides.
+	*/
+	private static int swap(BitBoard B, int to, long first, int mover, int side, long occ, int captured) {
+		int[] gain = gains.get();
+		int d = 0;
+		int onSquare = VALUES[mover];
+
+		gain[0] = captured;
+		occ ^= first;
+		side = 1 - side;
+
+		while (true) {
+			long attackers = B.attackersOf(to, side, occ) & occ;
+			if (attackers == 0)
+				break;
+
+			//Least valuable attacker
+			int type = BitBoard.PAWN;
+			long bb = attackers & B.getPieces(side, type);
+			while (bb == 0) {
+				type++;
+				bb = attackers & B.getPieces(side, type);
+			}
+
+			//A King may only capture onto a Tile the other side no longer attacks
+			if (type == BitBoard.KING && (B.attackersOf(to, 1 - side, occ ^ (bb & -bb)) & occ) != 0)
+				break;
+
+			d++;
+			gain[d] = onSquare - gain[d-1];
+			onSquare = VALUES[type];
+			occ ^= bb & -bb;
+			side = 1 - side;
+		}
+
+		//Each side stops capturing wherever going on would lose
+		for (; d > 0; d--)
+			gain[d-1] = -Math.max(-gain[d-1], gain[d]);
+
+		return gain[0];
+	}
+}
@@ -0,0 +1,175 @@
+/*
+	TranspositionTable.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	TranspositionTable.java is the hash table the GameTree's depth first search uses to remember what it found out
+	about each position it searched, keyed by the position's Zobrist hash. When the same position is reached again
+	by another order of moves, or searched again by the next iteration, the entry can settle the node at once or at
+	least name the best move to try first.
+
+	The table holds a power of two number of buckets of two entries each. An entry is two longs, the data packed as
+	below and the full key XORed with that data, so the whole table is two long arrays and nothing is allocated while
+	searching. Entries are read and written as packed longs and taken apart with the static methods below, in the
+	same way as moves.
+
+	Every search thread reads and writes the table at once without locks. Two threads storing to the same entry can
+	leave the key of one with the data of the other, but since the key is only recovered by XORing the two longs
+	together such a torn entry no longer matches either position and is simply a miss. A stale or torn move that
+	slips through is harmless as well, since MovePicker checks the hash move is legal before handing it out.
+
+	Data layout, counting bits right to left:
+		bits 0-15	- Best move found, Move.NONE if none.
+		bits 16-31	- Score, a signed 16 bit number.
+		bits 32-39	- Depth searched.
+		bits 40-41	- Bound type, EXACT, LOWER or UPPER, never 0 so a stored entry is never 0.
+		bits 42-47	- Age, the search that wrote the entry.
+
+	Replacement: the first entry of a bucket is kept for the deepest result, the second always takes the newest. A
+	new result replaces the first entry if it is for the same position, is at least as deep, or the entry was left by
+	an earlier search, and otherwise goes in the second. Deep results are costly to recompute and so survive, while
+	the second entry keeps the table useful for the shallow positions near the leaves.
+
+	Data members:
+		keys - long[]	- Key of each entry XORed with its data, two per bucket.
+		data - long[]	- Packed data of each entry.
+		mask - int		- Number of buckets minus one, masking a key down to a bucket index.
+		age - int		- Age of the current search, 0 to 63.
+*/
+
+
+import java.util.Arrays;
+
+
+public class TranspositionTable {
+
+	//Bound types
+	public static final int EXACT = 1;
+	public static final int LOWER = 2;
+	public static final int UPPER = 3;
+
+	private long[] keys;
+	private long[] data;
+	private int mask;
+	private int age;
+
+
+	//Construct a TranspositionTable taking at most the given number of megabytes, rounded down to a power of two buckets.
+	public TranspositionTable(int megabytes) {
+
+		//A bucket is two entries of two longs, 32 bytes
+		long buckets = Math.max(1, ((long) megabytes << 20) / 32);
+		int size = (int) Long.highestOneBit(Math.min(buckets, 1 << 26));
+
+		keys = new long[2*size];
+		data = new long[2*size];
+		mask = size - 1;
+		age = 0;
+	}
+
+
+	/*
+		newSearch() - Ages the table at the start of a search, so entries left by earlier searches are the first replaced.
+	*/
+	public void newSearch() {
+		age = (age + 1) & 63;
+	}
+
+
+	/*
+		clear() - Empties the table.
+	*/
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(data, 0);
+	}
+
+
+	/*
+		probe(long key) - Returns the packed data stored for the position with the given key, 0 if there is none.
+	*/
+	public long probe(long key) {
+		int i = 2*((int) key & mask);
+
+		for (int slot = i; slot < i+2; slot++) {
+			long entry = data[slot];
+			if (entry != 0 && (keys[slot] ^ entry) == key)
+				return entry;
+		}
+
+		return 0;
+	}
+
+
+	/*
+		store(long key, int move, int score, int depth, int bound) - Records the result of searching the position with
+		the given key, replacing an entry as described above. If move is Move.NONE any best move already stored for the
+		position is kept. A score outside 16 bits is stored as the nearest one inside them rather than wrapping around
+		to the opposite sign.
+	*/
+	public void store(long key, int move, int score, int depth, int bound) {
+		int i = 2*((int) key & mask);
+		long first = data[i];
+		int slot;
+
+		if ((keys[i] ^ first) == key || depth >= getDepth(first) || getAge(first) != age)
+			slot = i;
+		else
+			slot = i+1;
+
+		long old = data[slot];
+		if (move == Move.NONE && (keys[slot] ^ old) == key)
+			move = getMove(old);
+
+		score = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, score));
+
+		long entry = (long) move | ((long) (score & 0xFFFF) << 16) | ((long) depth << 32) | ((long) bound << 40) | ((long) age << 42);
+		data[slot] = entry;
+		keys[slot] = key ^ entry;
+	}
+
+
+	/*
+		getMove(long entry) - Returns the best move of a packed entry.
+	*/
+	public static int getMove(long entry) {
+		return (int) (entry & 0xFFFF);
+	}
+
+
+	/*
+		getScore(long entry) - Returns the score of a packed entry.
+	*/
+	public static int getScore(long entry) {
+		return (short) (entry >>> 16);
+	}
+
+
+	/*
+		getDepth(long entry) - Returns the depth of a packed entry.
+	*/
+	public static int getDepth(long entry) {
+		return (int) ((entry >>> 32) & 0xFF);
+	}
+
+
+	/*
+		getBound(long entry) - Returns the bound type of a packed entry.
+	*/
+	public static int getBound(long entry) {
+		return (int) ((entry >>> 40) & 3);
+	}
+
+
+	/*
+		getAge(long entry) - Returns the age of a packed entry.
+	*/
+	public static int getAge(long entry) {
+		return (int) ((entry >>> 42) & 63);
+	}
+}
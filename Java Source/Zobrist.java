@@ -0,0 +1,88 @@
+/*
+	Zobrist.java
+
+	Date of Creation: Oct 18, 2026
+	Date of last modification: Oct 18, 2026
+
+	Author: Justin Underhay
+*/
+
+/*
+	Zobrist.java holds the random keys used to hash BitBoard positions. The hash of a position is the XOR of the key of
+	every piece kind on its Tile, the key of the castling rights still held, the key of the en passant Tile if there is
+	one and the side key when Black is to move. Since XOR undoes itself, a move updates the hash by XORing out what it
+	changes and XORing in the result, so a BitBoard keeps its hash current for a few operations per move.
+
+	The keys come from a fixed seed so a position hashes the same on every run.
+
+	Data members:
+		PIECES - long[][]	- Key of each piece kind on each Tile, indexed by color*6 + type then Tile.
+		CASTLING - long[]	- Key of each combination of castling rights, indexed by the bits returned by rights.
+		EN_PASSANT - long[]	- Key of each Tile as the en passant Tile.
+		SIDE - long			- Key XORed in when Black is to move.
+*/
+
+
+import java.util.Random;
+
+
+public class Zobrist {
+
+	//Kings and Rooks whose moved bits decide castling, bit i of a rights index standing for CASTLERS[i] being unmoved
+	private static final int[] CASTLERS = {15, 9, 8, 31, 25, 24};
+
+	//Mask of the moved bits of every piece in CASTLERS
+	private static final int CASTLER_MASK = (1 << 15) | (1 << 9) | (1 << 8) | (1 << 31) | (1 << 25) | (1 << 24);
+
+	public static final long[][] PIECES = new long[12][64];
+	public static final long[] CASTLING = new long[1 << CASTLERS.length];
+	public static final long[] EN_PASSANT = new long[64];
+	public static final long SIDE;
+
+	static {
+		Random R = new Random(20181220L);
+
+		for (int i=0; i<12; i++)
+			for (int T=0; T<64; T++)
+				PIECES[i][T] = R.nextLong();
+
+		//Each combination of rights is the XOR of a key per right, so only those are random
+		long[] single = new long[CASTLERS.length];
+		for (int i=0; i<CASTLERS.length; i++)
+			single[i] = R.nextLong();
+
+		for (int r=0; r<CASTLING.length; r++)
+			for (int i=0; i<CASTLERS.length; i++)
+				if ((r & (1 << i)) != 0)
+					CASTLING[r] ^= single[i];
+
+		for (int T=0; T<64; T++)
+			EN_PASSANT[T] = R.nextLong();
+
+		SIDE = R.nextLong();
+	}
+
+
+	/*
+		rights(int specials) - Returns the index into CASTLING of the castling rights held in the given specials int, bit i
+		being set when the King or Rook CASTLERS[i] has not moved.
+	*/
+	public static int rights(int specials) {
+		int r = 0;
+
+		for (int i=0; i<CASTLERS.length; i++)
+			if ((specials & (1 << CASTLERS[i])) == 0)
+				r |= 1 << i;
+
+		return r;
+	}
+
+
+	/*
+		castlingChanged(int before, int after) - Returns true if two specials ints differ in a bit that decides castling,
+		which lets a move skip rehashing the rights when it moves nothing that matters.
+	*/
+	public static boolean castlingChanged(int before, int after) {
+		return ((before ^ after) & CASTLER_MASK) != 0;
+	}
+}